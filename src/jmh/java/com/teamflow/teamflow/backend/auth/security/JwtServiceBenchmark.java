@@ -0,0 +1,36 @@
+package com.teamflow.teamflow.backend.auth.security;
+
+import com.teamflow.teamflow.backend.support.BenchmarkFixtures;
+import com.teamflow.teamflow.backend.users.domain.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(BenchmarkFixtures.JWT_SECRET, 3600, "teamflow-backend");
+        user = BenchmarkFixtures.user();
+        token = jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public Jws<Claims> parse() {
+        return jwtService.parseAndValidate(token);
+    }
+}
@@ -0,0 +1,25 @@
+package com.teamflow.teamflow.backend.auth.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenHasherBenchmark {
+
+    private TokenHasher tokenHasher;
+    private String rawToken;
+
+    @Setup
+    public void setUp() {
+        tokenHasher = new TokenHasher();
+        rawToken = new EmailVerificationTokenGenerator().generate();
+    }
+
+    @Benchmark
+    public String sha256Base64Url() {
+        return tokenHasher.sha256Base64Url(rawToken);
+    }
+}
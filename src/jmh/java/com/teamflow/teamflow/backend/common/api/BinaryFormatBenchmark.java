@@ -0,0 +1,77 @@
+package com.teamflow.teamflow.backend.common.api;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.teamflow.teamflow.backend.support.BenchmarkFixtures;
+import com.teamflow.teamflow.backend.tasks.api.TaskResponse;
+import com.teamflow.teamflow.backend.tasks.api.mapper.TaskMapper;
+import com.teamflow.teamflow.backend.tasks.api.mapper.TaskMapperImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization time and payload size of a 50-task page per negotiated format. Payload sizes are printed
+ * once per fork during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryFormatBenchmark {
+
+    private static final TypeReference<PageResponse<TaskResponse>> PAGE_TYPE = new TypeReference<>() {};
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"50"})
+    public int pageSize;
+
+    @Param({"200"})
+    public int descriptionLength;
+
+    private PageResponse<TaskResponse> response;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        TaskMapper taskMapper = new TaskMapperImpl();
+        response = PageResponses.of(
+                new PageImpl<>(
+                        BenchmarkFixtures.tasks(pageSize, descriptionLength),
+                        PageRequest.of(0, pageSize),
+                        pageSize * 10L
+                ),
+                taskMapper::toResponse
+        );
+
+        ObjectMapper mapper = switch (format) {
+            case "json" -> BenchmarkFixtures.objectMapper();
+            case "cbor" -> BenchmarkFixtures.cborMapper();
+            case "smile" -> BenchmarkFixtures.smileMapper();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        writer = mapper.writerFor(PAGE_TYPE);
+        reader = mapper.readerFor(PAGE_TYPE);
+        payload = writer.writeValueAsBytes(response);
+
+        System.out.printf("%n%s payload: %d bytes for %d tasks%n", format, payload.length, pageSize);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public PageResponse<TaskResponse> deserialize() throws IOException {
+        return reader.readValue(payload);
+    }
+}
@@ -0,0 +1,58 @@
+package com.teamflow.teamflow.backend.common.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.teamflow.teamflow.backend.support.BenchmarkFixtures;
+import com.teamflow.teamflow.backend.tasks.api.TaskResponse;
+import com.teamflow.teamflow.backend.tasks.api.mapper.TaskMapper;
+import com.teamflow.teamflow.backend.tasks.api.mapper.TaskMapperImpl;
+import com.teamflow.teamflow.backend.tasks.domain.Task;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PageResponseBenchmark {
+
+    @Param({"50"})
+    public int pageSize;
+
+    @Param({"200"})
+    public int descriptionLength;
+
+    private final TaskMapper taskMapper = new TaskMapperImpl();
+
+    private Page<Task> page;
+    private PageResponse<TaskResponse> response;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        page = new PageImpl<>(
+                BenchmarkFixtures.tasks(pageSize, descriptionLength),
+                PageRequest.of(0, pageSize),
+                pageSize * 10L
+        );
+        response = PageResponses.of(page, taskMapper::toResponse);
+
+        ObjectMapper objectMapper = BenchmarkFixtures.objectMapper();
+        writer = objectMapper.writerFor(new TypeReference<PageResponse<TaskResponse>>() {});
+    }
+
+    @Benchmark
+    public PageResponse<TaskResponse> pageResponsesOf() {
+        return PageResponses.of(page, taskMapper::toResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeTaskPage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,79 @@
+package com.teamflow.teamflow.backend.common.json;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.teamflow.teamflow.backend.common.api.PageResponse;
+import com.teamflow.teamflow.backend.common.api.PageResponses;
+import com.teamflow.teamflow.backend.support.BenchmarkFixtures;
+import com.teamflow.teamflow.backend.tasks.api.TaskResponse;
+import com.teamflow.teamflow.backend.tasks.api.mapper.TaskMapper;
+import com.teamflow.teamflow.backend.tasks.api.mapper.TaskMapperImpl;
+import com.teamflow.teamflow.backend.tasks.domain.Task;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps and writes a task page the way the message converter does: {@code reflective} is the untyped
+ * writer Spring MVC creates per response from a plain mapper, {@code tuned} adds Blackbird and the
+ * pre-resolved writer from {@link ObjectWriterCache}. {@link PageResponses#of} maps items lazily in both.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseWriterBenchmark {
+
+    @Param({"reflective", "tuned"})
+    public String mode;
+
+    @Param({"50"})
+    public int pageSize;
+
+    @Param({"200"})
+    public int descriptionLength;
+
+    private final TaskMapper taskMapper = new TaskMapperImpl();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+
+    private Page<Task> page;
+    private ObjectMapper objectMapper;
+    private ObjectWriterCache writers;
+    private JavaType pageType;
+
+    @Setup
+    public void setUp() {
+        page = new PageImpl<>(
+                BenchmarkFixtures.tasks(pageSize, descriptionLength),
+                PageRequest.of(0, pageSize),
+                pageSize * 10L
+        );
+
+        objectMapper = BenchmarkFixtures.objectMapper();
+        if ("tuned".equals(mode)) {
+            objectMapper.registerModule(new BlackbirdModule());
+        }
+        writers = new ObjectWriterCache(objectMapper);
+        pageType = objectMapper.getTypeFactory().constructParametricType(PageResponse.class, TaskResponse.class);
+    }
+
+    @Benchmark
+    public int writeTaskPage() throws IOException {
+        PageResponse<TaskResponse> response = PageResponses.of(page, taskMapper::toResponse);
+
+        ObjectWriter writer = objectMapper.writer();
+        if ("tuned".equals(mode)) {
+            writer = writers.resolve(writer, pageType);
+        }
+
+        out.reset();
+        writer.writeValue(out, response);
+        return out.size();
+    }
+}
@@ -0,0 +1,54 @@
+package com.teamflow.teamflow.backend.mapping;
+
+import com.teamflow.teamflow.backend.projects.api.ProjectResponse;
+import com.teamflow.teamflow.backend.projects.api.mapper.ProjectMapper;
+import com.teamflow.teamflow.backend.projects.api.mapper.ProjectMapperImpl;
+import com.teamflow.teamflow.backend.projects.domain.Project;
+import com.teamflow.teamflow.backend.support.BenchmarkFixtures;
+import com.teamflow.teamflow.backend.tasks.api.TaskResponse;
+import com.teamflow.teamflow.backend.tasks.api.mapper.TaskMapper;
+import com.teamflow.teamflow.backend.tasks.api.mapper.TaskMapperImpl;
+import com.teamflow.teamflow.backend.tasks.domain.Task;
+import com.teamflow.teamflow.backend.workspaces.api.WorkspaceResponse;
+import com.teamflow.teamflow.backend.workspaces.api.mapper.WorkspaceMapper;
+import com.teamflow.teamflow.backend.workspaces.api.mapper.WorkspaceMapperImpl;
+import com.teamflow.teamflow.backend.workspaces.domain.Workspace;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    private final TaskMapper taskMapper = new TaskMapperImpl();
+    private final ProjectMapper projectMapper = new ProjectMapperImpl();
+    private final WorkspaceMapper workspaceMapper = new WorkspaceMapperImpl();
+
+    private Task task;
+    private Project project;
+    private Workspace workspace;
+
+    @Setup
+    public void setUp() {
+        workspace = BenchmarkFixtures.workspace();
+        project = BenchmarkFixtures.project(workspace.getId());
+        task = BenchmarkFixtures.task(project.getId(), 200);
+    }
+
+    @Benchmark
+    public TaskResponse taskToResponse() {
+        return taskMapper.toResponse(task);
+    }
+
+    @Benchmark
+    public ProjectResponse projectToResponse() {
+        return projectMapper.toResponse(project);
+    }
+
+    @Benchmark
+    public WorkspaceResponse workspaceToResponse() {
+        return workspaceMapper.toResponse(workspace);
+    }
+}
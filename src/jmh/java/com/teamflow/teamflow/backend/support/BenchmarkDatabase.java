@@ -0,0 +1,63 @@
+package com.teamflow.teamflow.backend.support;
+
+import com.teamflow.teamflow.backend.TeamflowBackendApplication;
+import com.teamflow.teamflow.backend.seed.BulkDataSeeder;
+import com.teamflow.teamflow.backend.seed.SeedPlan;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+
+/**
+ * PostgreSQL container plus a non-web application context for benchmarks that need the real
+ * persistence stack. Create it in a {@code Level.Trial} setup and close it in the tear-down.
+ */
+public final class BenchmarkDatabase implements AutoCloseable {
+
+    private final PostgreSQLContainer<?> postgres;
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkDatabase(PostgreSQLContainer<?> postgres, ConfigurableApplicationContext context) {
+        this.postgres = postgres;
+        this.context = context;
+    }
+
+    public static BenchmarkDatabase start(String... extraProperties) {
+        PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+                .withDatabaseName("teamflow")
+                .withUsername("teamflow")
+                .withPassword("teamflow");
+        postgres.start();
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TeamflowBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "logging.level.root=WARN",
+                        "teamflow.warmup.enabled=false"
+                )
+                .properties(extraProperties)
+                .run();
+
+        return new BenchmarkDatabase(postgres, context);
+    }
+
+    public BulkDataSeeder.Result seed(SeedPlan plan) {
+        return new BulkDataSeeder(bean(DataSource.class), bean(PasswordEncoder.class)).seed(plan);
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        postgres.stop();
+    }
+}
@@ -0,0 +1,99 @@
+package com.teamflow.teamflow.backend.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.teamflow.teamflow.backend.projects.domain.Project;
+import com.teamflow.teamflow.backend.tasks.domain.Task;
+import com.teamflow.teamflow.backend.tasks.domain.TaskRank;
+import com.teamflow.teamflow.backend.tasks.domain.TaskStatus;
+import com.teamflow.teamflow.backend.users.domain.User;
+import com.teamflow.teamflow.backend.workspaces.domain.Workspace;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public final class BenchmarkFixtures {
+    private BenchmarkFixtures() {}
+
+    public static final String JWT_SECRET = "V8n#kL29sd8dL29sd8dL29sd8dL29sd8d";
+
+    // Mirrors the relevant defaults of the ObjectMapper Spring Boot configures.
+    public static ObjectMapper objectMapper() {
+        return configure(JsonMapper.builder());
+    }
+
+    public static ObjectMapper cborMapper() {
+        return configure(CBORMapper.builder());
+    }
+
+    public static ObjectMapper smileMapper() {
+        return configure(SmileMapper.builder());
+    }
+
+    private static <M extends ObjectMapper, B extends MapperBuilder<M, B>> M configure(MapperBuilder<M, B> builder) {
+        return builder
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .filterProvider(new SimpleFilterProvider().setFailOnUnknownId(false))
+                .build();
+    }
+
+    public static User user() {
+        User user = new User("bench.user", "bench.user@example.com", "hash");
+        set(user, "id", UUID.randomUUID());
+        return user;
+    }
+
+    public static Workspace workspace() {
+        Workspace workspace = new Workspace("Bench workspace");
+        set(workspace, "id", UUID.randomUUID());
+        set(workspace, "createdAt", LocalDateTime.now());
+        set(workspace, "updatedAt", LocalDateTime.now());
+        return workspace;
+    }
+
+    public static Project project(UUID workspaceId) {
+        Project project = new Project(workspaceId, "Bench project", UUID.randomUUID());
+        set(project, "id", UUID.randomUUID());
+        set(project, "createdAt", LocalDateTime.now());
+        set(project, "updatedAt", LocalDateTime.now());
+        return project;
+    }
+
+    public static Task task(UUID projectId, int descriptionLength) {
+        Task task = new Task(UUID.randomUUID(), projectId, "Bench task", "x".repeat(descriptionLength), UUID.randomUUID());
+        task.assignTo(UUID.randomUUID());
+        task.moveTo(TaskStatus.TODO, TaskRank.spaced(0, 1));
+        set(task, "id", UUID.randomUUID());
+        set(task, "createdAt", LocalDateTime.now());
+        set(task, "updatedAt", LocalDateTime.now());
+        return task;
+    }
+
+    public static List<Task> tasks(int count, int descriptionLength) {
+        UUID projectId = UUID.randomUUID();
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(task(projectId, descriptionLength));
+        }
+        return tasks;
+    }
+
+    private static void set(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set " + fieldName + " on " + target.getClass(), e);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.teamflow.teamflow.backend.tasks.repo;
+
+import com.teamflow.teamflow.backend.common.id.UuidV7Generator;
+import com.teamflow.teamflow.backend.seed.SeedPlan;
+import com.teamflow.teamflow.backend.support.BenchmarkDatabase;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task insert throughput with random (v4) vs. time-ordered (v7) primary keys on a table that already holds
+ * {@code prefill} rows. Each trial gets its own container; the size of {@code tasks_pkey} is printed at the end.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(TaskInsertBenchmark.BATCH)
+public class TaskInsertBenchmark {
+
+    static final int BATCH = 500;
+
+    private static final String INSERT = """
+            INSERT INTO tasks (id, workspace_id, project_id, title, status, rank, created_by, created_at, updated_at)
+            VALUES (?, ?, ?, ?, 'TODO', ?, ?, ?, ?)
+            """;
+
+    @Param({"random", "v7"})
+    public String ids;
+
+    @Param({"1000000"})
+    public int prefill;
+
+    private BenchmarkDatabase database;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate tx;
+    private UUID workspaceId;
+    private UUID projectId;
+    private UUID userId;
+    private long inserted;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.start();
+        database.seed(new SeedPlan("bench", 10, 1, 1, 0, 3, 3, 0.0, 42L, "password123"));
+
+        jdbc = database.bean(JdbcTemplate.class);
+        tx = new TransactionTemplate(database.bean(PlatformTransactionManager.class));
+        projectId = jdbc.queryForObject("SELECT id FROM projects LIMIT 1", UUID.class);
+        workspaceId = jdbc.queryForObject("SELECT workspace_id FROM projects LIMIT 1", UUID.class);
+        userId = jdbc.queryForObject("SELECT created_by FROM projects LIMIT 1", UUID.class);
+
+        for (int done = 0; done < prefill; done += BATCH) {
+            insertBatch();
+        }
+        jdbc.execute("VACUUM ANALYZE tasks");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Long pkeyBytes = jdbc.queryForObject("SELECT pg_relation_size('tasks_pkey')", Long.class);
+        System.out.printf("%n%s ids: %d rows, tasks_pkey %d MB%n", ids, inserted, pkeyBytes / (1024 * 1024));
+        database.close();
+    }
+
+    @Benchmark
+    public int[] insertBatch() {
+        long first = inserted;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] counts = tx.execute(status -> jdbc.batchUpdate(INSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                long n = first + i;
+                ps.setObject(1, "v7".equals(ids) ? UuidV7Generator.next() : UUID.randomUUID());
+                ps.setObject(2, workspaceId);
+                ps.setObject(3, projectId);
+                ps.setString(4, "Task " + n);
+                ps.setString(5, String.format("%012x1", n));
+                ps.setObject(6, userId);
+                ps.setTimestamp(7, now);
+                ps.setTimestamp(8, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return BATCH;
+            }
+        }));
+        inserted += BATCH;
+        return counts;
+    }
+}
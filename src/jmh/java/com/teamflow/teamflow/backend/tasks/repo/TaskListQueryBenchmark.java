@@ -0,0 +1,100 @@
+package com.teamflow.teamflow.backend.tasks.repo;
+
+import com.teamflow.teamflow.backend.common.api.PageResponse;
+import com.teamflow.teamflow.backend.common.api.PageResponses;
+import com.teamflow.teamflow.backend.seed.SeedPlan;
+import com.teamflow.teamflow.backend.support.BenchmarkDatabase;
+import com.teamflow.teamflow.backend.tasks.api.TaskResponse;
+import com.teamflow.teamflow.backend.tasks.api.mapper.TaskMapper;
+import com.teamflow.teamflow.backend.tasks.domain.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity hydration vs. constructor-expression projection for one task list page, mapped to
+ * the API response. Run with {@code -PjmhProfilers=gc} to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskListQueryBenchmark {
+
+    private static final int PAGES = 20;
+
+    @Param({"50"})
+    public int pageSize;
+
+    private BenchmarkDatabase database;
+    private TransactionTemplate readOnly;
+    private EntityManager entityManager;
+    private TaskRepository taskRepository;
+    private TaskMapper taskMapper;
+    private UUID projectId;
+    private int nextPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.start();
+        database.seed(new SeedPlan("bench", 500, 50, 200, 200_000, 3, 20, 1.0, 42L, "password123"));
+
+        projectId = database.bean(JdbcTemplate.class).queryForObject(
+                "SELECT project_id FROM tasks GROUP BY project_id ORDER BY count(*) DESC LIMIT 1", UUID.class);
+
+        readOnly = new TransactionTemplate(database.bean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                database.bean(EntityManagerFactory.class));
+        taskRepository = database.bean(TaskRepository.class);
+        taskMapper = database.bean(TaskMapper.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public PageResponse<TaskResponse> entityPage() {
+        PageRequest pageable = nextPageRequest();
+        return readOnly.execute(status -> {
+            List<Task> tasks = entityManager
+                    .createQuery("select t from Task t where t.projectId = :projectId", Task.class)
+                    .setParameter("projectId", projectId)
+                    .setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(pageable.getPageSize())
+                    .getResultList();
+            long total = entityManager
+                    .createQuery("select count(t) from Task t where t.projectId = :projectId", Long.class)
+                    .setParameter("projectId", projectId)
+                    .getSingleResult();
+            Page<Task> page = new PageImpl<>(tasks, pageable, total);
+            return PageResponses.of(page, taskMapper::toResponse);
+        });
+    }
+
+    @Benchmark
+    public PageResponse<TaskResponse> projectionPage() {
+        PageRequest pageable = nextPageRequest();
+        return readOnly.execute(status -> {
+            Page<TaskView> page = taskRepository.findViewsByProjectId(projectId, true, pageable);
+            return PageResponses.of(page, taskMapper::toResponse);
+        });
+    }
+
+    private PageRequest nextPageRequest() {
+        nextPage = (nextPage + 1) % PAGES;
+        return PageRequest.of(nextPage, pageSize);
+    }
+}
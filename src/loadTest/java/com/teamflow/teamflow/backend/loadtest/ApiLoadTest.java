@@ -0,0 +1,251 @@
+package com.teamflow.teamflow.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamflow.teamflow.backend.auth.security.JwtService;
+import com.teamflow.teamflow.backend.seed.BulkDataSeeder;
+import com.teamflow.teamflow.backend.users.domain.User;
+import com.teamflow.teamflow.backend.users.repo.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ApiLoadTest {
+
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("teamflow")
+                    .withUsername("teamflow")
+                    .withPassword("teamflow")
+                    .withSharedMemorySize(1024L * 1024 * 1024)
+                    .withCommand("postgres", "-c", "shared_buffers=512MB", "-c", "max_connections=200")
+                    .withStartupAttempts(3);
+
+    static {
+        POSTGRES.start();
+    }
+
+    @DynamicPropertySource
+    static void registerDataSourceProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> "32");
+    }
+
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+
+    enum Operation {
+        LIST_TASKS(40),
+        GET_TASK(25),
+        CHANGE_STATUS(10),
+        ASSIGN_TASK(10),
+        SEARCH_PROJECTS(15);
+
+        final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+
+        static Operation pick(int roll) {
+            int acc = 0;
+            for (Operation op : values()) {
+                acc += op.weight;
+                if (roll < acc) {
+                    return op;
+                }
+            }
+            return LIST_TASKS;
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void mixedWorkloadStaysWithinBudget() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LoadTestDataset dataset = new LoadTestDataset(jdbcTemplate, settings);
+
+        BulkDataSeeder.Result seeded = new BulkDataSeeder(dataSource, passwordEncoder).seed(settings.seedPlan());
+        System.out.printf("Seeded %d tasks in %.1fs%n", seeded.tasks(), seeded.elapsedMillis() / 1000.0);
+
+        List<LoadTestDataset.Target> targets = dataset.sampleTargets();
+        assertThat(targets).isNotEmpty();
+        Map<UUID, String> tokens = mintTokens(targets);
+
+        runPhase(settings, targets, tokens, settings.warmup());
+        Map<Operation, LatencyRecorder> recorders = runPhase(settings, targets, tokens, settings.duration());
+
+        double seconds = settings.duration().toMillis() / 1000.0;
+        Map<String, LatencyRecorder.Summary> report = new LinkedHashMap<>();
+        LatencyRecorder total = new LatencyRecorder();
+        recorders.forEach((op, recorder) -> {
+            report.put(op.name(), recorder.summarize(seconds));
+            total.merge(recorder);
+        });
+        LatencyRecorder.Summary overall = total.summarize(seconds);
+        report.put("TOTAL", overall);
+
+        writeReport(settings, report);
+
+        assertThat(overall.requests()).isPositive();
+        assertThat(overall.errorRate()).isLessThanOrEqualTo(settings.maxErrorRate());
+        if (settings.maxP99Millis() > 0) {
+            assertThat(overall.p99Millis()).isLessThanOrEqualTo(settings.maxP99Millis());
+        }
+    }
+
+    private Map<UUID, String> mintTokens(List<LoadTestDataset.Target> targets) {
+        List<UUID> ownerIds = targets.stream().map(LoadTestDataset.Target::ownerId).distinct().toList();
+        return userRepository.findAllById(ownerIds).stream()
+                .collect(Collectors.toMap(User::getId, jwtService::generateAccessToken));
+    }
+
+    private Map<Operation, LatencyRecorder> runPhase(
+            LoadTestSettings settings,
+            List<LoadTestDataset.Target> targets,
+            Map<UUID, String> tokens,
+            Duration phase
+    ) throws Exception {
+        long deadline = System.nanoTime() + phase.toNanos();
+        List<Future<Map<Operation, LatencyRecorder>>> workers = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(settings.concurrency())) {
+            for (int i = 0; i < settings.concurrency(); i++) {
+                workers.add(executor.submit(() -> runWorker(targets, tokens, deadline)));
+            }
+
+            Map<Operation, LatencyRecorder> merged = new EnumMap<>(Operation.class);
+            for (Future<Map<Operation, LatencyRecorder>> worker : workers) {
+                worker.get().forEach((op, recorder) ->
+                        merged.computeIfAbsent(op, k -> new LatencyRecorder()).merge(recorder));
+            }
+            return merged;
+        }
+    }
+
+    private Map<Operation, LatencyRecorder> runWorker(
+            List<LoadTestDataset.Target> targets,
+            Map<UUID, String> tokens,
+            long deadline
+    ) {
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < deadline) {
+            LoadTestDataset.Target target = targets.get(random.nextInt(targets.size()));
+            Operation op = Operation.pick(random.nextInt(100));
+            HttpRequest request = buildRequest(op, target, tokens.get(target.ownerId()), random);
+
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                success = response.statusCode() < 400;
+            } catch (Exception e) {
+                success = false;
+            }
+            recorders.computeIfAbsent(op, k -> new LatencyRecorder()).record(System.nanoTime() - start, success);
+        }
+        return recorders;
+    }
+
+    private HttpRequest buildRequest(
+            Operation op,
+            LoadTestDataset.Target target,
+            String token,
+            ThreadLocalRandom random
+    ) {
+        String projectBase = "/api/v1/workspaces/" + target.workspaceId() + "/projects";
+        String taskBase = projectBase + "/" + target.projectId() + "/tasks";
+
+        Function<String, HttpRequest.Builder> request = path -> HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(10))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "application/json");
+
+        return switch (op) {
+            case LIST_TASKS -> request.apply(taskBase + "?page=0&size=50").GET().build();
+            case GET_TASK -> request.apply(taskBase + "/" + target.taskId()).GET().build();
+            case CHANGE_STATUS -> request.apply(taskBase + "/" + target.taskId() + "/status")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"status\":\"" + STATUSES[random.nextInt(STATUSES.length)] + "\"}"))
+                    .build();
+            case ASSIGN_TASK -> request.apply(taskBase + "/" + target.taskId() + "/assign")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"userId\":\"" + target.ownerId() + "\"}"))
+                    .build();
+            case SEARCH_PROJECTS -> request.apply(projectBase + "?q=Project&page=0&size=20").GET().build();
+        };
+    }
+
+    private void writeReport(LoadTestSettings settings, Map<String, LatencyRecorder.Summary> report) throws Exception {
+        System.out.printf("%-16s %10s %8s %10s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        report.forEach((name, s) -> System.out.printf("%-16s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                name, s.requests(), s.errors(), s.throughputPerSecond(),
+                s.p50Millis(), s.p99Millis(), s.p999Millis(), s.maxMillis()));
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("settings", settings);
+        document.put("operations", report);
+
+        Files.createDirectories(settings.reportDir());
+        objectMapper.writerWithDefaultPrettyPrinter()
+                .writeValue(settings.reportDir().resolve("api-load-test.json").toFile(), document);
+    }
+}
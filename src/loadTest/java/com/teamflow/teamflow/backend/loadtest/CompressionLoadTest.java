@@ -0,0 +1,182 @@
+package com.teamflow.teamflow.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamflow.teamflow.backend.auth.security.JwtService;
+import com.teamflow.teamflow.backend.seed.BulkDataSeeder;
+import com.teamflow.teamflow.backend.seed.SeedPlan;
+import com.teamflow.teamflow.backend.users.domain.User;
+import com.teamflow.teamflow.backend.users.repo.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bytes on the wire and latency of 50-task list pages under the {@code prod} profile, for HTTP/1.1 and h2c,
+ * with and without {@code Accept-Encoding: gzip}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("prod")
+class CompressionLoadTest {
+
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("teamflow")
+                    .withUsername("teamflow")
+                    .withPassword("teamflow")
+                    .withStartupAttempts(3);
+
+    static {
+        POSTGRES.start();
+    }
+
+    @DynamicPropertySource
+    static void registerDataSourceProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    record Variant(String name, HttpClient.Version version, boolean gzip) {}
+
+    record Target(UUID workspaceId, UUID projectId, UUID ownerId) {}
+
+    record Result(
+            HttpClient.Version negotiated,
+            double avgWireBytes,
+            LatencyRecorder.Summary latency
+    ) {}
+
+    private static final List<Variant> VARIANTS = List.of(
+            new Variant("http1-identity", HttpClient.Version.HTTP_1_1, false),
+            new Variant("http1-gzip", HttpClient.Version.HTTP_1_1, true),
+            new Variant("h2c-identity", HttpClient.Version.HTTP_2, false),
+            new Variant("h2c-gzip", HttpClient.Version.HTTP_2, true)
+    );
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void listResponsesAreCompressedAndServedOverH2c() throws Exception {
+        int requests = Integer.parseInt(System.getProperty("loadtest.compression.requests", "500"));
+        new BulkDataSeeder(dataSource, passwordEncoder).seed(new SeedPlan("cmp", 200, 40, 200, 40_000, 3, 20, 0.5, 7L, "loadtest-password"));
+
+        List<Target> targets = jdbcTemplate.query("""
+                SELECT p.workspace_id, p.id, wm.user_id
+                FROM projects p
+                JOIN workspace_members wm ON wm.workspace_id = p.workspace_id AND wm.role = 'OWNER'
+                WHERE (SELECT count(*) FROM tasks t WHERE t.project_id = p.id) >= 50
+                """,
+                (rs, rowNum) -> new Target(
+                        rs.getObject(1, UUID.class), rs.getObject(2, UUID.class), rs.getObject(3, UUID.class)));
+        assertThat(targets).isNotEmpty();
+
+        Map<UUID, String> tokens = userRepository
+                .findAllById(targets.stream().map(Target::ownerId).distinct().toList()).stream()
+                .collect(Collectors.toMap(User::getId, jwtService::generateAccessToken));
+
+        Map<String, Result> report = new LinkedHashMap<>();
+        for (Variant variant : VARIANTS) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(variant.version())
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            run(client, variant, targets, tokens, requests / 5);
+            report.put(variant.name(), run(client, variant, targets, tokens, requests));
+        }
+
+        System.out.printf("%-16s %9s %12s %9s %9s%n", "variant", "protocol", "bytes/resp", "p50 ms", "p99 ms");
+        report.forEach((name, r) -> System.out.printf("%-16s %9s %12.0f %9.2f %9.2f%n",
+                name, r.negotiated(), r.avgWireBytes(), r.latency().p50Millis(), r.latency().p99Millis()));
+
+        Path reportDir = Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest"));
+        Files.createDirectories(reportDir);
+        objectMapper.writerWithDefaultPrettyPrinter()
+                .writeValue(reportDir.resolve("compression-load-test.json").toFile(), report);
+
+        assertThat(report.get("http1-gzip").avgWireBytes()).isLessThan(report.get("http1-identity").avgWireBytes());
+        assertThat(report.get("h2c-gzip").negotiated()).isEqualTo(HttpClient.Version.HTTP_2);
+    }
+
+    private Result run(
+            HttpClient client,
+            Variant variant,
+            List<Target> targets,
+            Map<UUID, String> tokens,
+            int requests
+    ) throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long wireBytes = 0;
+        HttpClient.Version negotiated = null;
+
+        for (int i = 0; i < requests; i++) {
+            Target target = targets.get(random.nextInt(targets.size()));
+            HttpRequest.Builder request = HttpRequest.newBuilder()
+                    .uri(URI.create("http://localhost:" + port + "/api/v1/workspaces/" + target.workspaceId()
+                            + "/projects/" + target.projectId() + "/tasks?page=0&size=50"))
+                    .timeout(Duration.ofSeconds(10))
+                    .header("Authorization", "Bearer " + tokens.get(target.ownerId()))
+                    .header("Accept", "application/json");
+            if (variant.gzip()) {
+                request.header("Accept-Encoding", "gzip");
+            }
+
+            long start = System.nanoTime();
+            // HttpClient does not decode Content-Encoding, so the body length is what crossed the wire.
+            HttpResponse<byte[]> response = client.send(request.GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+            recorder.record(System.nanoTime() - start, response.statusCode() == 200);
+
+            wireBytes += response.body().length;
+            negotiated = response.version();
+            if (variant.gzip()) {
+                assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+            }
+        }
+
+        LatencyRecorder.Summary summary = recorder.summarize(1);
+        return new Result(negotiated, (double) wireBytes / requests, summary);
+    }
+}
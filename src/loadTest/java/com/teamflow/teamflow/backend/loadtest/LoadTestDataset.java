@@ -0,0 +1,37 @@
+package com.teamflow.teamflow.backend.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+final class LoadTestDataset {
+
+    record Target(UUID workspaceId, UUID projectId, UUID taskId, UUID ownerId) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestSettings settings;
+
+    LoadTestDataset(JdbcTemplate jdbcTemplate, LoadTestSettings settings) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.settings = settings;
+    }
+
+    List<Target> sampleTargets() {
+        return jdbcTemplate.query("""
+                SELECT p.workspace_id, t.project_id, t.id, wm.user_id
+                FROM tasks t
+                JOIN projects p ON p.id = t.project_id
+                JOIN workspace_members wm ON wm.workspace_id = p.workspace_id AND wm.role = 'OWNER'
+                ORDER BY random()
+                LIMIT ?
+                """,
+                (rs, rowNum) -> new Target(
+                        rs.getObject(1, UUID.class),
+                        rs.getObject(2, UUID.class),
+                        rs.getObject(3, UUID.class),
+                        rs.getObject(4, UUID.class)
+                ),
+                settings.sampleSize());
+    }
+}
@@ -0,0 +1,47 @@
+package com.teamflow.teamflow.backend.loadtest;
+
+import com.teamflow.teamflow.backend.seed.SeedPlan;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+record LoadTestSettings(
+        SeedPlan seedPlan,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        int sampleSize,
+        double maxErrorRate,
+        double maxP99Millis,
+        Path reportDir
+) {
+
+    static LoadTestSettings fromSystemProperties() {
+        SeedPlan seedPlan = new SeedPlan(
+                "lt",
+                intProp("users", 5_000),
+                intProp("workspaces", 2_000),
+                intProp("projects", 10_000),
+                Long.parseLong(System.getProperty("loadtest.tasks", "1000000")),
+                intProp("minMembersPerWorkspace", 3),
+                intProp("maxMembersPerWorkspace", 50),
+                Double.parseDouble(System.getProperty("loadtest.skew", "1.0")),
+                42L,
+                "loadtest-password"
+        );
+        return new LoadTestSettings(
+                seedPlan,
+                intProp("concurrency", 32),
+                Duration.ofSeconds(intProp("warmupSeconds", 15)),
+                Duration.ofSeconds(intProp("durationSeconds", 60)),
+                intProp("sampleSize", 2_000),
+                Double.parseDouble(System.getProperty("loadtest.maxErrorRate", "0.01")),
+                Double.parseDouble(System.getProperty("loadtest.maxP99Millis", "0")),
+                Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest"))
+        );
+    }
+
+    private static int intProp(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty("loadtest." + name, String.valueOf(defaultValue)));
+    }
+}
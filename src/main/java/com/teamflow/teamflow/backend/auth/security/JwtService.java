@@ -12,6 +12,7 @@ import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 
 @Service
 public class JwtService {
@@ -31,14 +32,18 @@ public class JwtService {
     }
 
     public String generateAccessToken(User user) {
+        return generateAccessToken(user.getId(), user.getEmail(), user.getRole().name());
+    }
+
+    public String generateAccessToken(UUID userId, String email, String role) {
         Instant now = Instant.now();
         Instant exp = now.plusSeconds(ttlSeconds);
 
         return Jwts.builder()
                 .issuer(issuer)
-                .subject(user.getId().toString())
-                .claim("email", user.getEmail())
-                .claim("role", user.getRole().name())
+                .subject(userId.toString())
+                .claim("email", email)
+                .claim("role", role)
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(exp))
                 .signWith(key)
@@ -0,0 +1,14 @@
+package com.teamflow.teamflow.backend.common.api;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BatchResponse<T>(
+        List<BatchItem<T>> items
+) {
+    public record BatchItem<T>(
+            UUID id,
+            boolean found,
+            T item
+    ) {}
+}
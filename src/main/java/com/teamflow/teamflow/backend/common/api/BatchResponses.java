@@ -0,0 +1,46 @@
+package com.teamflow.teamflow.backend.common.api;
+
+import com.teamflow.teamflow.backend.common.errors.BadRequestException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+public final class BatchResponses {
+
+    public static final int MAX_IDS = 100;
+
+    private BatchResponses() {}
+
+    public static void validateIds(List<UUID> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_IDS || ids.contains(null)) {
+            throw new BadRequestException("ids must contain between 1 and " + MAX_IDS + " ids.");
+        }
+    }
+
+    /**
+     * Lines the fetched rows up with the requested ids, in request order; ids without a row are marked not found.
+     */
+    public static <E, D> BatchResponse<D> of(
+            List<UUID> ids,
+            List<E> found,
+            Function<E, UUID> idOf,
+            Function<E, D> mapper
+    ) {
+        Map<UUID, D> byId = HashMap.newHashMap(found.size());
+        for (E e : found) {
+            byId.put(idOf.apply(e), mapper.apply(e));
+        }
+
+        List<BatchResponse.BatchItem<D>> items = ids.stream()
+                .map(id -> {
+                    D item = byId.get(id);
+                    return new BatchResponse.BatchItem<>(id, item != null, item);
+                })
+                .toList();
+
+        return new BatchResponse<>(items);
+    }
+}
@@ -0,0 +1,14 @@
+package com.teamflow.teamflow.backend.common.api;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+        List<T> items,
+        CursorMeta meta
+) {
+    public record CursorMeta(
+            int size,
+            boolean hasNext,
+            String nextCursor
+    ) {}
+}
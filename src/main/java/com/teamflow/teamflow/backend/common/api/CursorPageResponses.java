@@ -0,0 +1,26 @@
+package com.teamflow.teamflow.backend.common.api;
+
+import java.util.List;
+import java.util.function.Function;
+
+public final class CursorPageResponses {
+    private CursorPageResponses() {}
+
+    /**
+     * @param fetched up to {@code size + 1} rows; the extra row only signals that a next page exists
+     */
+    public static <E, D> CursorPageResponse<D> of(
+            List<E> fetched,
+            int size,
+            Function<E, D> mapper,
+            Function<E, String> cursorOf
+    ) {
+        boolean hasNext = fetched.size() > size;
+        List<E> page = hasNext ? fetched.subList(0, size) : fetched;
+
+        List<D> items = page.stream().map(mapper).toList();
+        String nextCursor = hasNext ? cursorOf.apply(page.getLast()) : null;
+
+        return new CursorPageResponse<>(items, new CursorPageResponse.CursorMeta(size, hasNext, nextCursor));
+    }
+}
@@ -0,0 +1,67 @@
+package com.teamflow.teamflow.backend.common.api;
+
+import com.teamflow.teamflow.backend.common.errors.BadRequestException;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fields a client asked for with {@code ?fields=}; {@code id} is always included. An absent or blank
+ * parameter selects every field.
+ */
+public final class FieldSet {
+
+    /** Jackson filter id carried by response records that support sparse fieldsets. */
+    public static final String FILTER_ID = "sparse-fields";
+
+    private static final FieldSet ALL = new FieldSet(null);
+
+    private final Set<String> names;
+
+    private FieldSet(Set<String> names) {
+        this.names = names;
+    }
+
+    public static FieldSet all() {
+        return ALL;
+    }
+
+    public static FieldSet parse(String fields, Class<? extends Record> type) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+
+        List<String> allowed = Arrays.stream(type.getRecordComponents()).map(RecordComponent::getName).toList();
+
+        Set<String> names = new LinkedHashSet<>();
+        names.add("id");
+        for (String raw : fields.split(",")) {
+            String name = raw.strip();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new BadRequestException(
+                        "Unknown field '" + name + "'. Allowed fields: " + String.join(", ", allowed) + ".");
+            }
+            names.add(name);
+        }
+        return new FieldSet(Collections.unmodifiableSet(names));
+    }
+
+    public boolean isAll() {
+        return names == null;
+    }
+
+    public boolean includes(String field) {
+        return names == null || names.contains(field);
+    }
+
+    public Set<String> names() {
+        return names;
+    }
+}
@@ -0,0 +1,36 @@
+package com.teamflow.teamflow.backend.common.api;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolves {@link SparseFields} parameters and leaves the result on the request for
+ * {@link SparseFieldsResponseBodyAdvice}.
+ */
+public class FieldSetArgumentResolver implements HandlerMethodArgumentResolver {
+
+    static final String REQUEST_ATTRIBUTE = FieldSet.class.getName();
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(SparseFields.class)
+                && FieldSet.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public FieldSet resolveArgument(
+            MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory
+    ) {
+        SparseFields annotation = parameter.getParameterAnnotation(SparseFields.class);
+        FieldSet fields = FieldSet.parse(webRequest.getParameter("fields"), annotation.value());
+        webRequest.setAttribute(REQUEST_ATTRIBUTE, fields, RequestAttributes.SCOPE_REQUEST);
+        return fields;
+    }
+}
@@ -0,0 +1,31 @@
+package com.teamflow.teamflow.backend.common.api;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * Read-only view that maps each source element when it is read. Jackson serializes it index by index,
+ * so response DTOs are created and written one at a time instead of being collected into a list first.
+ */
+final class MappedList<E, D> extends AbstractList<D> implements RandomAccess {
+
+    private final List<E> source;
+    private final Function<E, D> mapper;
+
+    MappedList(List<E> source, Function<E, D> mapper) {
+        this.source = source instanceof RandomAccess ? source : List.copyOf(source);
+        this.mapper = mapper;
+    }
+
+    @Override
+    public D get(int index) {
+        return mapper.apply(source.get(index));
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+}
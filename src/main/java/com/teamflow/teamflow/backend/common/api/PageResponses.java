@@ -8,8 +8,12 @@ import java.util.function.Function;
 public final class PageResponses {
     private PageResponses() {}
 
+    /**
+     * Items are mapped lazily while the response is written; {@code mapper} must not depend on an open
+     * persistence context.
+     */
     public static <E, D> PageResponse<D> of(Page<E> page, Function<E, D> mapper) {
-        List<D> items = page.getContent().stream().map(mapper).toList();
+        List<D> items = new MappedList<>(page.getContent(), mapper);
 
         PageResponse.PageMeta meta = new PageResponse.PageMeta(
                 page.getNumber(),
@@ -0,0 +1,17 @@
+package com.teamflow.teamflow.backend.common.api;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds the {@code fields} query parameter to a {@link FieldSet} validated against the components of the
+ * given response record. The response body is then written with only those fields.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SparseFields {
+
+    Class<? extends Record> value();
+}
@@ -0,0 +1,28 @@
+package com.teamflow.teamflow.backend.common.cache;
+
+import java.util.List;
+
+/**
+ * Hibernate second-level cache regions. Each one must have an entry with explicit sizing and
+ * expiry in {@code application.conf} (missing regions fail at startup).
+ */
+public final class CacheRegions {
+    private CacheRegions() {
+    }
+
+    public static final String WORKSPACES = "workspaces";
+    public static final String PROJECTS = "projects";
+    public static final String WORKSPACE_MEMBERS = "workspace-members";
+
+    public static final String PROJECT_LOOKUPS = "project-lookups";
+    // Every query that answers "is this user a member" lives here, whatever it returns.
+    public static final String WORKSPACE_MEMBER_ROLES = "workspace-member-roles";
+
+    static final List<String> ALL = List.of(
+            WORKSPACES,
+            PROJECTS,
+            WORKSPACE_MEMBERS,
+            PROJECT_LOOKUPS,
+            WORKSPACE_MEMBER_ROLES
+    );
+}
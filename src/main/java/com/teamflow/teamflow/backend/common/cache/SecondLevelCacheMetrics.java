@@ -0,0 +1,49 @@
+package com.teamflow.teamflow.backend.common.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Publishes {@code teamflow.hibernate.cache.hit.ratio} per region from the JCache statistics MXBeans that
+ * Caffeine registers ({@code monitoring.statistics} in application.conf), so the ratio does not depend on
+ * Hibernate statistics being enabled. Raw hit/miss/put counters come from Spring Boot's Hibernate metrics
+ * ({@code hibernate.second.level.cache.requests}) when {@code HIBERNATE_STATISTICS=true}.
+ */
+@Component
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : CacheRegions.ALL) {
+            Gauge.builder("teamflow.hibernate.cache.hit.ratio", mBeanServer, server -> hitRatio(server, region))
+                    .tag("region", region)
+                    .description("Second-level cache hit ratio since startup")
+                    .register(registry);
+        }
+    }
+
+    private static double hitRatio(MBeanServer server, String region) {
+        long hits = 0;
+        long misses = 0;
+        try {
+            ObjectName pattern = new ObjectName("javax.cache:type=CacheStatistics,Cache=" + region + ",*");
+            for (ObjectName name : server.queryNames(pattern, null)) {
+                hits += (Long) server.getAttribute(name, "CacheHits");
+                misses += (Long) server.getAttribute(name, "CacheMisses");
+            }
+        } catch (JMException e) {
+            return Double.NaN;
+        }
+        long requests = hits + misses;
+        return requests == 0 ? Double.NaN : (double) hits / requests;
+    }
+}
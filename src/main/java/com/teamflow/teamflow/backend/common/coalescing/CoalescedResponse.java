@@ -0,0 +1,6 @@
+package com.teamflow.teamflow.backend.common.coalescing;
+
+/**
+ * The response a coalesced read produced, replayed to every caller that joined it.
+ */
+record CoalescedResponse(int status, String contentType, byte[] body) {}
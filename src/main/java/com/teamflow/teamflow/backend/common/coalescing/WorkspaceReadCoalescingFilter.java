@@ -0,0 +1,192 @@
+package com.teamflow.teamflow.backend.common.coalescing;
+
+import com.teamflow.teamflow.backend.common.events.WorkspaceChangedEvent;
+import com.teamflow.teamflow.backend.common.security.CurrentUserProvider;
+import com.teamflow.teamflow.backend.workspaces.repo.WorkspaceMemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Single-flight for identical concurrent reads under {@code /api/v1/workspaces/{id}/projects}: while one
+ * request is executing, members asking for the same path, query and representation wait for it and get its
+ * serialized response instead of running the same queries again.
+ * <p>
+ * Every caller's membership is checked before it joins a flight; non-members run the normal request path.
+ * Flights for a workspace are dropped when a task or project change there commits, so a read that starts
+ * after a write never receives a response computed before it.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 20)
+public class WorkspaceReadCoalescingFilter extends OncePerRequestFilter {
+
+    public static final String COALESCED_HEADER = "X-Coalesced";
+
+    private static final Pattern COALESCABLE_PATH =
+            Pattern.compile("^/api/v1/workspaces/([0-9a-fA-F-]{36})/projects(/.*)?$");
+
+    private final CurrentUserProvider currentUserProvider;
+    private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final boolean enabled;
+    private final Duration maxWait;
+    private final Counter coalescedCounter;
+
+    private final Map<FlightKey, CompletableFuture<CoalescedResponse>> flights = new ConcurrentHashMap<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    record FlightKey(UUID workspaceId, String path, String query, String accept) {}
+
+    public WorkspaceReadCoalescingFilter(
+            CurrentUserProvider currentUserProvider,
+            WorkspaceMemberRepository workspaceMemberRepository,
+            MeterRegistry meterRegistry,
+            @Value("${teamflow.coalescing.enabled:true}") boolean enabled,
+            @Value("${teamflow.coalescing.max-wait-ms:2000}") long maxWaitMs
+    ) {
+        this.currentUserProvider = currentUserProvider;
+        this.workspaceMemberRepository = workspaceMemberRepository;
+        this.enabled = enabled;
+        this.maxWait = Duration.ofMillis(maxWaitMs);
+        this.coalescedCounter = Counter.builder("teamflow.http.coalesced")
+                .description("Reads served from another request's in-flight execution")
+                .register(meterRegistry);
+        Gauge.builder("teamflow.http.coalescing.waiting", this, WorkspaceReadCoalescingFilter::waitingCount)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || !"GET".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Matcher matcher = COALESCABLE_PATH.matcher(request.getRequestURI());
+        Optional<UUID> userId = currentUserProvider.findCurrentUserId();
+        if (!matcher.matches() || userId.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        UUID workspaceId;
+        try {
+            workspaceId = UUID.fromString(matcher.group(1));
+        } catch (IllegalArgumentException e) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (workspaceMemberRepository.findRole(workspaceId, userId.get()).isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        FlightKey key = new FlightKey(
+                workspaceId,
+                request.getRequestURI(),
+                Objects.toString(request.getQueryString(), ""),
+                Objects.toString(request.getHeader(HttpHeaders.ACCEPT), "")
+        );
+
+        CompletableFuture<CoalescedResponse> mine = new CompletableFuture<>();
+        CompletableFuture<CoalescedResponse> flight = flights.putIfAbsent(key, mine);
+        if (flight == null) {
+            lead(key, mine, request, response, filterChain);
+            return;
+        }
+
+        CoalescedResponse shared = follow(flight);
+        if (shared == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        coalescedCounter.increment();
+        response.setStatus(shared.status());
+        if (shared.contentType() != null) {
+            response.setContentType(shared.contentType());
+        }
+        response.setHeader(COALESCED_HEADER, "true");
+        response.getOutputStream().write(shared.body());
+    }
+
+    private void lead(
+            FlightKey key,
+            CompletableFuture<CoalescedResponse> flight,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapped = new ContentCachingResponseWrapper(response);
+        CoalescedResponse result = null;
+        try {
+            filterChain.doFilter(request, wrapped);
+
+            // Only plain successes are shared; anything else lets each waiter run its own request.
+            if (wrapped.getStatus() == HttpStatus.OK.value() && !request.isAsyncStarted()) {
+                result = new CoalescedResponse(
+                        wrapped.getStatus(), wrapped.getContentType(), wrapped.getContentAsByteArray());
+            }
+        } finally {
+            flights.remove(key, flight);
+            flight.complete(result);
+            wrapped.copyBodyToResponse();
+        }
+    }
+
+    private CoalescedResponse follow(CompletableFuture<CoalescedResponse> flight) throws IOException {
+        waiting.incrementAndGet();
+        try {
+            return flight.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a coalesced read", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onWorkspaceChanged(WorkspaceChangedEvent event) {
+        flights.keySet().removeIf(key -> key.workspaceId().equals(event.workspaceId()));
+    }
+
+    int waitingCount() {
+        return waiting.get();
+    }
+}
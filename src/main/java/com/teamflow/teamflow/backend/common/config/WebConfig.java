@@ -1,12 +1,17 @@
 package com.teamflow.teamflow.backend.common.config;
 
+import com.teamflow.teamflow.backend.common.api.FieldSetArgumentResolver;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.data.web.config.PageableHandlerMethodArgumentResolverCustomizer;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
 
 @Configuration
-public class WebConfig {
+public class WebConfig implements WebMvcConfigurer {
 
     @Bean
     public PageableHandlerMethodArgumentResolverCustomizer pageableCustomizer() {
@@ -15,4 +20,9 @@ public class WebConfig {
             resolver.setOneIndexedParameters(false);
         };
     }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new FieldSetArgumentResolver());
+    }
 }
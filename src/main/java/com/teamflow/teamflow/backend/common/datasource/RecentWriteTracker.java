@@ -0,0 +1,37 @@
+package com.teamflow.teamflow.backend.common.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which users committed a write recently, so their reads can stay on the primary
+ * until the replica has had time to catch up. State is per instance.
+ */
+public class RecentWriteTracker {
+
+    private final Map<UUID, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    public RecentWriteTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void recordWrite(UUID userId) {
+        lastWriteNanos.put(userId, System.nanoTime());
+    }
+
+    public boolean wroteRecently(UUID userId) {
+        Long last = lastWriteNanos.get(userId);
+        return last != null && System.nanoTime() - last < windowNanos;
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.nanoTime();
+        lastWriteNanos.values().removeIf(last -> now - last >= windowNanos);
+    }
+}
@@ -0,0 +1,53 @@
+package com.teamflow.teamflow.backend.common.datasource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+
+/**
+ * Pins the route of each JPA read-only transaction when it begins. Transactions served by the
+ * replica read the second-level and query caches but never put into them: a row read from a
+ * lagging replica would otherwise be served from the cache for the full region TTL, long after
+ * the read-your-writes window has closed.
+ */
+public class ReplicaAwareJpaDialect extends HibernateJpaDialect {
+
+    private final ReplicaRoutingDataSource routing;
+
+    public ReplicaAwareJpaDialect(ReplicaRoutingDataSource routing) {
+        this.routing = routing;
+    }
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly() || routing.isRoutePinned()) {
+            return transactionData;
+        }
+
+        if (routing.pinReadOnlyRoute() == ReplicaRoutingDataSource.Route.REPLICA) {
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.GET);
+        }
+        return new PinnedTransactionData(transactionData);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof PinnedTransactionData pinned) {
+            routing.releasePinnedRoute();
+            super.cleanupTransaction(pinned.delegate());
+            return;
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private record PinnedTransactionData(Object delegate) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.teamflow.teamflow.backend.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // A replica that has replayed everything it received is current even if the last
+    // replayed transaction is old (idle primary), so lag is only measured while WAL is pending.
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END
+            """;
+
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+
+    private volatile boolean available;
+    private volatile double lagMillis = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.replica.setQueryTimeout(2);
+        this.maxLagMillis = maxLag.toMillis();
+
+        Gauge.builder("teamflow.datasource.replica.lag", this, m -> m.lagMillis)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("teamflow.datasource.replica.available", this, m -> m.available ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Scheduled(
+            initialDelayString = "0",
+            fixedDelayString = "${teamflow.datasource.replica.lag-check-interval-ms:1000}"
+    )
+    public void check() {
+        boolean wasAvailable = available;
+        try {
+            Double lag = replica.queryForObject(LAG_QUERY, Double.class);
+            lagMillis = lag == null ? 0 : lag;
+            available = lagMillis <= maxLagMillis;
+        } catch (RuntimeException e) {
+            lagMillis = Double.NaN;
+            available = false;
+            if (wasAvailable) {
+                log.warn("Replica lag check failed, routing reads to primary: {}", e.getMessage());
+            }
+            return;
+        }
+
+        if (wasAvailable != available) {
+            log.info("Replica {} (lag {} ms, max {} ms)",
+                    available ? "in sync, routing reads to replica" : "lagging, routing reads to primary",
+                    Math.round(lagMillis), maxLagMillis);
+        }
+    }
+}
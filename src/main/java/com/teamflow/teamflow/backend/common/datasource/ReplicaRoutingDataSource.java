@@ -0,0 +1,100 @@
+package com.teamflow.teamflow.backend.common.datasource;
+
+import com.teamflow.teamflow.backend.common.security.CurrentUserProvider;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Sends read-only transactions to the replica while it is in sync, except for users who
+ * committed a write within the read-your-writes window. Must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so the lookup
+ * happens after the transaction's read-only flag is bound. JPA read-only transactions have
+ * their route pinned at begin by {@link ReplicaAwareJpaDialect}.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final RecentWriteTracker recentWrites;
+    private final CurrentUserProvider currentUserProvider;
+    private final Object pinnedRouteKey = new Object();
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReplicaLagMonitor lagMonitor,
+            RecentWriteTracker recentWrites,
+            CurrentUserProvider currentUserProvider
+    ) {
+        this.lagMonitor = lagMonitor;
+        this.recentWrites = recentWrites;
+        this.currentUserProvider = currentUserProvider;
+
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    /**
+     * Decides the route for a read-only transaction that is about to begin and keeps it until
+     * {@link #releasePinnedRoute()}, so later lag or write changes cannot move it mid-transaction.
+     */
+    Route pinReadOnlyRoute() {
+        Route route = readOnlyRoute(currentUserProvider.findCurrentUserId());
+        TransactionSynchronizationManager.bindResource(pinnedRouteKey, route);
+        return route;
+    }
+
+    boolean isRoutePinned() {
+        return TransactionSynchronizationManager.hasResource(pinnedRouteKey);
+    }
+
+    void releasePinnedRoute() {
+        TransactionSynchronizationManager.unbindResourceIfPossible(pinnedRouteKey);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Object pinned = TransactionSynchronizationManager.getResource(pinnedRouteKey);
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (pinned != null && readOnly) {
+            return pinned;
+        }
+
+        Optional<UUID> userId = currentUserProvider.findCurrentUserId();
+
+        if (!readOnly) {
+            if (userId.isPresent() && TransactionSynchronizationManager.isSynchronizationActive()) {
+                UUID id = userId.get();
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recentWrites.recordWrite(id);
+                    }
+                });
+            }
+            return Route.PRIMARY;
+        }
+        return readOnlyRoute(userId);
+    }
+
+    private Route readOnlyRoute(Optional<UUID> userId) {
+        if (!lagMonitor.isAvailable()) {
+            return Route.PRIMARY;
+        }
+        if (userId.isPresent() && recentWrites.wroteRecently(userId.get())) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+}
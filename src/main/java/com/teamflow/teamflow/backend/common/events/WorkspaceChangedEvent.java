@@ -0,0 +1,9 @@
+package com.teamflow.teamflow.backend.common.events;
+
+import java.util.UUID;
+
+/**
+ * Published inside a write transaction whenever a task or project of the workspace changes;
+ * listeners that need the data to be visible use {@code @TransactionalEventListener}.
+ */
+public record WorkspaceChangedEvent(UUID workspaceId) {}
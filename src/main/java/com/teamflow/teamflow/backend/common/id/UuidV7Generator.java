@@ -0,0 +1,50 @@
+package com.teamflow.teamflow.backend.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
+
+/**
+ * UUIDv7 layout: 48-bit Unix epoch milliseconds, version 7, 12-bit {@code rand_a}, variant, 62 random bits.
+ * {@link #next()} uses {@code rand_a} as a counter within the same millisecond (RFC 9562, method 1), so ids from
+ * this JVM are strictly increasing even when the clock stalls or steps back; a counter overflow borrows the next
+ * millisecond. The random bits are not meant to be unguessable: access is checked by membership, not by id.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final AtomicLong LAST = new AtomicLong();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return INSERT_ONLY;
+    }
+
+    public static UUID next() {
+        long now = System.currentTimeMillis() << 12;
+        long stamp = LAST.accumulateAndGet(now, (last, candidate) -> candidate > last ? candidate : last + 1);
+        return of(stamp >>> 12, stamp, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Builds a UUIDv7 from the given timestamp, the low 12 bits of {@code randA} and the low 62 bits of
+     * {@code randB}; for callers that need reproducible ids, such as the bulk seeder.
+     */
+    public static UUID of(long epochMillis, long randA, long randB) {
+        long msb = (epochMillis << 16) | 0x7000L | (randA & 0xfffL);
+        long lsb = (randB & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
@@ -0,0 +1,191 @@
+package com.teamflow.teamflow.backend.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamflow.teamflow.backend.common.security.CurrentUserProvider;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Makes authenticated POST requests carrying an {@code Idempotency-Key} header safe to retry: the first
+ * successful response is stored per user and key, and a retry with the same request gets that response
+ * back without the controller running again.
+ * <p>
+ * Runs after the security filter chain so the caller is known; keys are scoped per user. The
+ * {@code Accept} header is part of the request fingerprint: only the body and content type are stored,
+ * so a retry negotiating a different representation must not be served the stored one.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 10)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final CurrentUserProvider currentUserProvider;
+    private final ObjectMapper objectMapper;
+
+    public IdempotencyFilter(
+            IdempotencyStore idempotencyStore,
+            CurrentUserProvider currentUserProvider,
+            ObjectMapper objectMapper
+    ) {
+        this.idempotencyStore = idempotencyStore;
+        this.currentUserProvider = currentUserProvider;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Optional<UUID> userId = currentUserProvider.findCurrentUserId();
+        if (userId.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER).strip();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeProblem(request, response, HttpStatus.BAD_REQUEST, "Bad Request",
+                    "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters.");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String requestHash = fingerprint(cachedRequest);
+
+        Optional<IdempotencyRecord> existing = idempotencyStore.find(userId.get(), key);
+        Optional<UUID> claimToken = Optional.empty();
+        // An unfinished claim may be abandoned; the claim takes it over once its lease has run out.
+        if (existing.isEmpty() || !existing.get().completed()) {
+            claimToken = idempotencyStore.claim(userId.get(), key, requestHash);
+            if (claimToken.isEmpty()) {
+                existing = idempotencyStore.find(userId.get(), key);
+                if (existing.isEmpty()) {
+                    writeInProgress(request, response);
+                    return;
+                }
+            }
+        }
+        if (claimToken.isEmpty()) {
+            replay(request, response, existing.get(), requestHash);
+            return;
+        }
+        UUID token = claimToken.get();
+
+        ContentCachingResponseWrapper wrapped = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(cachedRequest, wrapped);
+
+            if (HttpStatus.valueOf(wrapped.getStatus()).is2xxSuccessful()) {
+                idempotencyStore.complete(userId.get(), key, token, new IdempotencyRecord(
+                        requestHash, wrapped.getStatus(), wrapped.getContentType(), wrapped.getContentAsByteArray()));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyStore.release(userId.get(), key, token);
+            }
+            wrapped.copyBodyToResponse();
+        }
+    }
+
+    private void replay(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            IdempotencyRecord record,
+            String requestHash
+    ) throws IOException {
+        if (!record.requestHash().equals(requestHash)) {
+            writeProblem(request, response, HttpStatus.UNPROCESSABLE_ENTITY, "Unprocessable Entity",
+                    "Idempotency-Key was already used for a different request.");
+            return;
+        }
+        if (!record.completed()) {
+            writeInProgress(request, response);
+            return;
+        }
+
+        response.setStatus(record.status());
+        if (record.contentType() != null) {
+            response.setContentType(record.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.getOutputStream().write(record.body());
+    }
+
+    private void writeInProgress(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        writeProblem(request, response, HttpStatus.CONFLICT, "Conflict",
+                "A request with this Idempotency-Key is still being processed.");
+    }
+
+    private void writeProblem(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            HttpStatus status,
+            String title,
+            String detail
+    ) throws IOException {
+        ProblemDetail pd = ProblemDetail.forStatusAndDetail(status, detail);
+        pd.setTitle(title);
+        pd.setType(URI.create("https://teamflow.app/problems/" + title.toLowerCase().replace(' ', '-')));
+        pd.setInstance(URI.create(request.getRequestURI()));
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getWriter(), pd);
+    }
+
+    private static String fingerprint(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI()).getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update(("?" + request.getQueryString()).getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            String accept = request.getHeader(HttpHeaders.ACCEPT);
+            if (accept != null) {
+                digest.update(accept.getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            digest.update(request.body());
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.teamflow.teamflow.backend.common.idempotency;
+
+/**
+ * Stored outcome of a request sent with an {@code Idempotency-Key}; {@code status} is {@code null}
+ * while the first request is still executing.
+ */
+public record IdempotencyRecord(
+        String requestHash,
+        Integer status,
+        String contentType,
+        byte[] body
+) {
+    public boolean completed() {
+        return status != null;
+    }
+}
@@ -0,0 +1,179 @@
+package com.teamflow.teamflow.backend.common.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Idempotency keys in {@code idempotency_keys}, fronted by a per-instance LRU of completed responses so
+ * retries hitting the same instance skip the database. Claims use {@code INSERT ... ON CONFLICT}, so only
+ * one of several concurrent requests with the same key executes. A claim is leased for {@code lease-seconds};
+ * an unfinished claim whose lease has run out is taken over, so a node crashing mid-request does not block
+ * the key until it expires.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    private static final int PURGE_BATCH_SIZE = 5_000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final Duration lease;
+    private final Cache<String, IdempotencyRecord> recent;
+
+    public IdempotencyStore(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            @Value("${teamflow.idempotency.ttl-hours:24}") long ttlHours,
+            @Value("${teamflow.idempotency.lease-seconds:60}") long leaseSeconds,
+            @Value("${teamflow.idempotency.cache-size:10000}") long cacheSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Optional<IdempotencyRecord> find(UUID userId, String key) {
+        IdempotencyRecord cached = recent.getIfPresent(cacheKey(userId, key));
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        List<IdempotencyRecord> rows = jdbcTemplate.query("""
+                        SELECT request_hash, response_status, response_content_type, response_body
+                        FROM idempotency_keys
+                        WHERE user_id = :userId AND idempotency_key = :key AND expires_at > now()
+                        """,
+                params(userId, key),
+                (rs, i) -> new IdempotencyRecord(
+                        rs.getString("request_hash"),
+                        rs.getObject("response_status", Integer.class),
+                        rs.getString("response_content_type"),
+                        rs.getBytes("response_body")
+                ));
+
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        IdempotencyRecord record = rows.getFirst();
+        if (record.completed()) {
+            recent.put(cacheKey(userId, key), record);
+        }
+        return Optional.of(record);
+    }
+
+    /**
+     * Reserves the key for a request and returns the claim token that {@link #complete} and {@link #release}
+     * must present; empty when a live entry already holds the key. Expired entries and unfinished claims whose
+     * lease has run out are taken over in place.
+     */
+    public Optional<UUID> claim(UUID userId, String key, String requestHash) {
+        UUID token = UUID.randomUUID();
+        int rows = jdbcTemplate.update("""
+                        INSERT INTO idempotency_keys
+                            (user_id, idempotency_key, request_hash, created_at, expires_at, locked_until, claim_token)
+                        VALUES (:userId, :key, :requestHash, now(), now() + :ttlSeconds * INTERVAL '1 second',
+                                now() + :leaseSeconds * INTERVAL '1 second', :token)
+                        ON CONFLICT (user_id, idempotency_key) DO UPDATE
+                        SET request_hash = EXCLUDED.request_hash,
+                            response_status = NULL,
+                            response_content_type = NULL,
+                            response_body = NULL,
+                            created_at = EXCLUDED.created_at,
+                            expires_at = EXCLUDED.expires_at,
+                            locked_until = EXCLUDED.locked_until,
+                            claim_token = EXCLUDED.claim_token
+                        WHERE idempotency_keys.expires_at <= now()
+                           OR (idempotency_keys.response_status IS NULL AND idempotency_keys.locked_until <= now())
+                        """,
+                params(userId, key)
+                        .addValue("requestHash", requestHash)
+                        .addValue("ttlSeconds", ttl.toSeconds())
+                        .addValue("leaseSeconds", lease.toSeconds())
+                        .addValue("token", token));
+        return rows == 1 ? Optional.of(token) : Optional.empty();
+    }
+
+    /**
+     * Stores the response; a no-op when the claim identified by {@code token} has been taken over since.
+     */
+    public void complete(UUID userId, String key, UUID token, IdempotencyRecord record) {
+        int rows = jdbcTemplate.update("""
+                        UPDATE idempotency_keys
+                        SET response_status = :status, response_content_type = :contentType, response_body = :body
+                        WHERE user_id = :userId AND idempotency_key = :key AND claim_token = :token
+                        """,
+                params(userId, key)
+                        .addValue("token", token)
+                        .addValue("status", record.status())
+                        .addValue("contentType", record.contentType())
+                        .addValue("body", record.body()));
+        if (rows == 1) {
+            recent.put(cacheKey(userId, key), record);
+        }
+    }
+
+    /**
+     * Drops an unfinished claim so the client can retry a request that failed; a no-op when the claim
+     * identified by {@code token} has been taken over since.
+     */
+    public void release(UUID userId, String key, UUID token) {
+        jdbcTemplate.update("""
+                        DELETE FROM idempotency_keys
+                        WHERE user_id = :userId AND idempotency_key = :key AND claim_token = :token
+                          AND response_status IS NULL
+                        """,
+                params(userId, key).addValue("token", token));
+    }
+
+    @Scheduled(
+            initialDelayString = "${teamflow.idempotency.cleanup-interval-ms:600000}",
+            fixedDelayString = "${teamflow.idempotency.cleanup-interval-ms:600000}"
+    )
+    public void purgeExpired() {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update("""
+                            DELETE FROM idempotency_keys
+                            WHERE (user_id, idempotency_key) IN (
+                                SELECT user_id, idempotency_key FROM idempotency_keys
+                                WHERE expires_at <= now()
+                                LIMIT :batchSize
+                            )
+                            """,
+                    new MapSqlParameterSource("batchSize", PURGE_BATCH_SIZE));
+            total += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("Purged {} expired idempotency keys", total);
+        }
+    }
+
+    private static MapSqlParameterSource params(UUID userId, String key) {
+        return new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("key", key);
+    }
+
+    private static String cacheKey(UUID userId, String key) {
+        return userId + ":" + key;
+    }
+}
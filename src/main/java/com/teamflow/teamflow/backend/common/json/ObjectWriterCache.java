@@ -0,0 +1,37 @@
+package com.teamflow.teamflow.backend.common.json;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ObjectWriter}s pre-resolved per declared response type. A writer built with
+ * {@code writerFor(PageResponse<TaskResponse>)} fetches its root serializer once and knows the item type
+ * statically, instead of resolving serializers from runtime classes on every response.
+ * <p>
+ * Only final types (records) are cached, so a declared supertype never hides a subclass' properties, and
+ * only for writers without a view or per-request filters.
+ */
+public class ObjectWriterCache {
+
+    private final ObjectMapper objectMapper;
+    private final Map<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public ObjectWriterCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public ObjectWriter resolve(ObjectWriter writer, JavaType type) {
+        if (type == null || !type.isFinal() || writer.getConfig() != objectMapper.getSerializationConfig()) {
+            return writer;
+        }
+        return writers.computeIfAbsent(type, objectMapper::writerFor);
+    }
+
+    public int size() {
+        return writers.size();
+    }
+}
@@ -0,0 +1,66 @@
+package com.teamflow.teamflow.backend.common.migration;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides what Flyway does while the context starts. {@code migrate} (default) applies pending migrations under
+ * Flyway's lock; {@code check} only compares the newest applied version with the newest migration in this build,
+ * for instances started after a separate migrate-only run. The mode is read at runtime, so it also works in
+ * AOT-processed images where {@code spring.flyway.enabled} is fixed at build time.
+ */
+@Component
+public class FlywayStartupStrategy implements FlywayMigrationStrategy {
+
+    public enum Mode { MIGRATE, CHECK }
+
+    private static final Logger log = LoggerFactory.getLogger(FlywayStartupStrategy.class);
+
+    private final Mode mode;
+
+    public FlywayStartupStrategy(@Value("${teamflow.flyway.startup-mode:migrate}") Mode mode) {
+        this.mode = mode;
+    }
+
+    @Override
+    public void migrate(Flyway flyway) {
+        if (mode == Mode.MIGRATE) {
+            flyway.migrate();
+            return;
+        }
+
+        Configuration config = flyway.getConfiguration();
+        check(SchemaVersions.latestAvailable(config), new JdbcTemplate(config.getDataSource()),
+                SchemaVersions.historyTable(config));
+    }
+
+    void check(MigrationVersion expected, JdbcTemplate jdbc, String table) {
+        MigrationVersion applied;
+        try {
+            applied = SchemaVersions.latestApplied(jdbc, table);
+        } catch (DataAccessException e) {
+            throw new IllegalStateException(
+                    "Cannot read schema history table " + table + "; run the migrate job first", e);
+        }
+
+        int cmp = applied.compareTo(expected);
+        if (cmp < 0) {
+            throw new IllegalStateException("Database schema is at version " + applied
+                    + " but this build expects " + expected + "; run the migrate job first");
+        }
+        if (cmp > 0) {
+            // Rolling deploy: the schema already moved ahead for the next release.
+            log.warn("Database schema is at version {}, newer than {} expected by this build", applied, expected);
+        } else {
+            log.info("Database schema is at expected version {}", expected);
+        }
+    }
+}
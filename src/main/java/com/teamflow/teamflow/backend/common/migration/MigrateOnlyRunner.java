@@ -0,0 +1,50 @@
+package com.teamflow.teamflow.backend.common.migration;
+
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exits once startup (and with it the Flyway migration) has finished when {@code teamflow.flyway.migrate-only}
+ * is set, so the app image can run as a one-off migration job (profile {@code migrate}).
+ */
+@Component
+public class MigrateOnlyRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(MigrateOnlyRunner.class);
+
+    private final ObjectProvider<Flyway> flyway;
+    private final ConfigurableApplicationContext context;
+    private final boolean migrateOnly;
+
+    public MigrateOnlyRunner(
+            ObjectProvider<Flyway> flyway,
+            ConfigurableApplicationContext context,
+            @Value("${teamflow.flyway.migrate-only:false}") boolean migrateOnly
+    ) {
+        this.flyway = flyway;
+        this.context = context;
+        this.migrateOnly = migrateOnly;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!migrateOnly) {
+            return;
+        }
+        Flyway migrations = flyway.getIfAvailable();
+        if (migrations == null) {
+            throw new IllegalStateException("teamflow.flyway.migrate-only is set but Flyway is disabled");
+        }
+        log.info("Migrations applied, schema at version {}; exiting", migrations.info().current().getVersion());
+
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
@@ -0,0 +1,64 @@
+package com.teamflow.teamflow.backend.common.migration;
+
+import org.flywaydb.core.api.Location;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Cheap schema version lookups: file names of the migrations in the build and one query on the history table,
+ * without Flyway's checksum validation.
+ */
+public final class SchemaVersions {
+    private SchemaVersions() {}
+
+    public static MigrationVersion latestAvailable(Configuration config) {
+        return latestAvailable(config.getLocations(), config.getSqlMigrationPrefix(), config.getSqlMigrationSeparator());
+    }
+
+    static MigrationVersion latestAvailable(Location[] locations, String prefix, String separator) {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        MigrationVersion latest = MigrationVersion.EMPTY;
+        for (Location location : locations) {
+            String root = location.getDescriptor().startsWith("classpath:")
+                    ? "classpath*:" + location.getRootPath()
+                    : location.getDescriptor();
+            try {
+                for (Resource resource : resolver.getResources(root + "/**/" + prefix + "*" + separator + "*.sql")) {
+                    String name = resource.getFilename();
+                    String version = name.substring(prefix.length(), name.indexOf(separator)).replace('_', '.');
+                    MigrationVersion candidate = MigrationVersion.fromVersion(version);
+                    if (candidate.compareTo(latest) > 0) {
+                        latest = candidate;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Newest successfully applied version; throws {@link org.springframework.dao.DataAccessException} when the
+     * history table cannot be read.
+     */
+    public static MigrationVersion latestApplied(JdbcTemplate jdbc, String table) {
+        return jdbc.queryForList("select version from " + table + " where success and version is not null", String.class)
+                .stream()
+                .map(MigrationVersion::fromVersion)
+                .max(MigrationVersion::compareTo)
+                .orElse(MigrationVersion.EMPTY);
+    }
+
+    public static String historyTable(Configuration config) {
+        return config.getDefaultSchema() == null
+                ? config.getTable()
+                : config.getDefaultSchema() + "." + config.getTable();
+    }
+}
@@ -0,0 +1,30 @@
+package com.teamflow.teamflow.backend.common.observability;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class SqlStatsDataSourceConfig {
+
+    // Only the "dataSource" bean is wrapped so statements are never counted twice
+    // when other DataSource beans delegate to it.
+    @Bean
+    static BeanPostProcessor sqlStatsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("teamflow")
+                            .listener(new SqlStatementStatsListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
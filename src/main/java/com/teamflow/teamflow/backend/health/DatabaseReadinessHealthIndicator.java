@@ -0,0 +1,33 @@
+package com.teamflow.teamflow.backend.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the cached {@link ReadinessMonitor} result as {@code databaseReadiness} in Actuator health and the
+ * readiness group, in place of Boot's {@code db} indicator that opens a connection on every probe.
+ */
+@Component
+public class DatabaseReadinessHealthIndicator implements HealthIndicator {
+
+    private final ReadinessMonitor readinessMonitor;
+
+    public DatabaseReadinessHealthIndicator(ReadinessMonitor readinessMonitor) {
+        this.readinessMonitor = readinessMonitor;
+    }
+
+    @Override
+    public Health health() {
+        ReadinessReport report = readinessMonitor.current();
+        Health.Builder builder = ReadinessReport.UP.equals(report.status()) ? Health.up() : Health.down();
+        builder.withDetail("reasons", report.reasons());
+        if (report.checkedAt() != null) {
+            builder.withDetail("checkedAt", report.checkedAt())
+                    .withDetail("database", report.database())
+                    .withDetail("pool", report.pool())
+                    .withDetail("migrations", report.migrations());
+        }
+        return builder.build();
+    }
+}
@@ -1,5 +1,7 @@
 package com.teamflow.teamflow.backend.health;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -8,8 +10,25 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/v1")
 public class HealthController {
 
+    private final ReadinessMonitor readinessMonitor;
+
+    public HealthController(ReadinessMonitor readinessMonitor) {
+        this.readinessMonitor = readinessMonitor;
+    }
+
     @GetMapping("/health")
     public HealthResponse health() {
         return new HealthResponse("UP");
     }
+
+    /**
+     * Cached result of the background readiness check; 503 while the node should not receive traffic.
+     * Anonymous, so only the status is returned; the full report is in Actuator health for admins.
+     */
+    @GetMapping("/health/ready")
+    public ResponseEntity<HealthResponse> ready() {
+        ReadinessReport report = readinessMonitor.current();
+        HttpStatus status = ReadinessReport.UP.equals(report.status()) ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(new HealthResponse(report.status()));
+    }
 }
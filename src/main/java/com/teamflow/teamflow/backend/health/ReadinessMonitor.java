@@ -0,0 +1,185 @@
+package com.teamflow.teamflow.backend.health;
+
+import com.teamflow.teamflow.backend.common.migration.SchemaVersions;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks database reachability, Hikari pool wait and schema version on a background schedule and keeps the
+ * result, so readiness probes only read a field and can never queue on a struggling database. A check that has
+ * not completed within {@code stale-after-ms} (for example because it is itself stuck waiting for a connection)
+ * marks the node not ready.
+ */
+@Component
+public class ReadinessMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadinessMonitor.class);
+
+    private record Check(
+            Instant checkedAt,
+            ReadinessReport.Database database,
+            ReadinessReport.Pool pool,
+            ReadinessReport.Migrations migrations
+    ) {}
+
+    private final DataSource dataSource;
+    private final HikariDataSource pool;
+    private final ObjectProvider<Flyway> flyway;
+    private final ApplicationAvailability availability;
+    private final long maxPoolWaitMillis;
+    private final Duration staleAfter;
+
+    private volatile Check last;
+    private volatile MigrationVersion expectedVersion;
+
+    public ReadinessMonitor(
+            DataSource dataSource,
+            ObjectProvider<Flyway> flyway,
+            ApplicationAvailability availability,
+            @Value("${teamflow.readiness.max-pool-wait-ms:500}") long maxPoolWaitMillis,
+            @Value("${teamflow.readiness.stale-after-ms:10000}") long staleAfterMillis
+    ) {
+        this.dataSource = dataSource;
+        this.pool = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+        this.flyway = flyway;
+        this.availability = availability;
+        this.maxPoolWaitMillis = maxPoolWaitMillis;
+        this.staleAfter = Duration.ofMillis(staleAfterMillis);
+    }
+
+    @Scheduled(
+            initialDelayString = "0",
+            fixedDelayString = "${teamflow.readiness.check-interval-ms:2000}"
+    )
+    public void refresh() {
+        Instant checkedAt = Instant.now();
+        ReadinessReport.Database database;
+        ReadinessReport.Migrations migrations = new ReadinessReport.Migrations("UNKNOWN", null, null);
+        long acquireMillis = -1;
+
+        long start = System.nanoTime();
+        // Straight from the pool when it can be unwrapped, so the wait is measured on the physical pool
+        // rather than on a lazy routing proxy.
+        try (Connection connection = (pool != null ? pool : dataSource).getConnection()) {
+            acquireMillis = millisSince(start);
+
+            JdbcTemplate jdbc = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            jdbc.setQueryTimeout(2);
+
+            long queryStart = System.nanoTime();
+            jdbc.execute("select 1");
+            database = new ReadinessReport.Database(true, millisSince(queryStart), null);
+            migrations = checkMigrations(jdbc);
+        } catch (SQLException | DataAccessException e) {
+            // Only the exception type goes into the report; the message (hosts, pool names) stays in the log.
+            database = new ReadinessReport.Database(false, millisSince(start), e.getClass().getSimpleName());
+            if (last == null || last.database().up()) {
+                log.warn("Readiness check cannot reach the database: {}", e.getMessage());
+            }
+        }
+
+        last = new Check(checkedAt, database, poolState(acquireMillis), migrations);
+    }
+
+    public ReadinessReport current() {
+        Check check = last;
+        List<String> reasons = new ArrayList<>();
+
+        if (availability.getReadinessState() != ReadinessState.ACCEPTING_TRAFFIC) {
+            reasons.add("application is not accepting traffic yet");
+        }
+        if (check == null) {
+            reasons.add("no readiness check has completed yet");
+            return new ReadinessReport(ReadinessReport.DOWN, reasons, null, null, null, null);
+        }
+
+        if (Duration.between(check.checkedAt(), Instant.now()).compareTo(staleAfter) > 0) {
+            reasons.add("last readiness check is older than " + staleAfter.toMillis() + " ms");
+        }
+        if (!check.database().up()) {
+            reasons.add("database is unreachable");
+        }
+        if (check.pool().acquireMs() > maxPoolWaitMillis) {
+            reasons.add("connection pool wait " + check.pool().acquireMs() + " ms exceeds " + maxPoolWaitMillis + " ms");
+        }
+        if ("PENDING".equals(check.migrations().state())) {
+            reasons.add("schema migrations are pending");
+        }
+
+        return new ReadinessReport(
+                reasons.isEmpty() ? ReadinessReport.UP : ReadinessReport.DOWN,
+                reasons,
+                check.checkedAt(),
+                check.database(),
+                check.pool(),
+                check.migrations()
+        );
+    }
+
+    private ReadinessReport.Migrations checkMigrations(JdbcTemplate jdbc) {
+        Flyway migrations = flyway.getIfAvailable();
+        if (migrations == null) {
+            return new ReadinessReport.Migrations("DISABLED", null, null);
+        }
+
+        MigrationVersion expected = expectedVersion;
+        if (expected == null) {
+            expected = SchemaVersions.latestAvailable(migrations.getConfiguration());
+            expectedVersion = expected;
+        }
+        MigrationVersion applied;
+        try {
+            applied = SchemaVersions.latestApplied(jdbc, SchemaVersions.historyTable(migrations.getConfiguration()));
+        } catch (DataAccessException e) {
+            return new ReadinessReport.Migrations("UNKNOWN", null, expected.getVersion());
+        }
+
+        return new ReadinessReport.Migrations(
+                applied.compareTo(expected) < 0 ? "PENDING" : "UP",
+                applied.getVersion(),
+                expected.getVersion()
+        );
+    }
+
+    private ReadinessReport.Pool poolState(long acquireMillis) {
+        HikariPoolMXBean bean = pool == null ? null : pool.getHikariPoolMXBean();
+        if (bean == null) {
+            return new ReadinessReport.Pool(-1, -1, -1, -1, -1, acquireMillis);
+        }
+        return new ReadinessReport.Pool(
+                bean.getActiveConnections(),
+                bean.getIdleConnections(),
+                bean.getTotalConnections(),
+                pool.getMaximumPoolSize(),
+                bean.getThreadsAwaitingConnection(),
+                acquireMillis
+        );
+    }
+
+    private static long millisSince(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+    }
+}
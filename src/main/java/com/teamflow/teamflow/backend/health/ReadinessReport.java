@@ -0,0 +1,29 @@
+package com.teamflow.teamflow.backend.health;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Result of the last background readiness check. {@code reasons} lists why the node is not ready and is empty
+ * when {@code status} is UP.
+ */
+public record ReadinessReport(
+        String status,
+        List<String> reasons,
+        Instant checkedAt,
+        Database database,
+        Pool pool,
+        Migrations migrations
+) {
+    public static final String UP = "UP";
+    public static final String DOWN = "DOWN";
+
+    /** {@code error} is the exception type of a failed check, never its message. */
+    public record Database(boolean up, long latencyMs, String error) {}
+
+    /** Hikari pool state when the check ran; {@code acquireMs} is how long the check waited for a connection. */
+    public record Pool(int active, int idle, int total, int max, int waiting, long acquireMs) {}
+
+    /** {@code state} is UP, PENDING (schema older than this build), UNKNOWN or DISABLED (no Flyway). */
+    public record Migrations(String state, String applied, String expected) {}
+}
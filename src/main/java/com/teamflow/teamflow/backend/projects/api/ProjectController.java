@@ -1,9 +1,19 @@
 package com.teamflow.teamflow.backend.projects.api;
 
+import com.teamflow.teamflow.backend.common.api.BatchResponse;
+import com.teamflow.teamflow.backend.common.api.BatchResponses;
+import com.teamflow.teamflow.backend.common.api.CursorPageResponse;
+import com.teamflow.teamflow.backend.common.api.CursorPageResponses;
+import com.teamflow.teamflow.backend.common.api.FieldSet;
 import com.teamflow.teamflow.backend.common.api.PageResponse;
 import com.teamflow.teamflow.backend.common.api.PageResponses;
+import com.teamflow.teamflow.backend.common.api.SparseFields;
+import com.teamflow.teamflow.backend.common.errors.BadRequestException;
 import com.teamflow.teamflow.backend.projects.api.mapper.ProjectMapper;
 import com.teamflow.teamflow.backend.projects.domain.Project;
+import com.teamflow.teamflow.backend.projects.repo.ProjectKeyset;
+import com.teamflow.teamflow.backend.projects.repo.ProjectSortOrder;
+import com.teamflow.teamflow.backend.projects.repo.ProjectView;
 import com.teamflow.teamflow.backend.projects.service.ProjectService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
@@ -11,12 +21,15 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/workspaces/{workspaceId}/projects")
 public class ProjectController {
 
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final ProjectService projectService;
     private final ProjectMapper projectMapper;
 
@@ -42,19 +55,58 @@ public class ProjectController {
             @RequestParam(defaultValue = "50") int size,
             @RequestParam(defaultValue = "ACTIVE") String status,
             @RequestParam(defaultValue = "") String q,
-            @RequestParam(defaultValue = "updatedAt,desc") String sort
+            @RequestParam(defaultValue = "updatedAt,desc") String sort,
+            @SparseFields(ProjectResponse.class) FieldSet fields
     ) {
         PageRequest pr = PageRequest.of(page, size, ProjectSorts.parse(sort));
 
-        Page<Project> result = projectService.list(workspaceId, status, q, pr);
+        Page<ProjectView> result = projectService.list(workspaceId, status, q, pr);
 
         return PageResponses.of(result, projectMapper::toResponse);
     }
 
+    @GetMapping("/scroll")
+    public CursorPageResponse<ProjectResponse> scroll(
+            @PathVariable UUID workspaceId,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "ACTIVE") String status,
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "updatedAt,desc") String sort,
+            @RequestParam(required = false) String cursor
+    ) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new BadRequestException("size must be between 1 and " + MAX_SCROLL_SIZE + ".");
+        }
+
+        ProjectSortOrder order = ProjectSorts.parseOrder(sort);
+        ProjectKeyset after = ProjectCursor.decode(cursor, order);
+
+        List<Project> fetched = projectService.scroll(workspaceId, status, q, order, after, size + 1);
+
+        return CursorPageResponses.of(
+                fetched,
+                size,
+                projectMapper::toResponse,
+                last -> ProjectCursor.encode(order, last)
+        );
+    }
+
+    @GetMapping("/batch")
+    public BatchResponse<ProjectResponse> batch(
+            @PathVariable UUID workspaceId,
+            @RequestParam List<UUID> ids
+    ) {
+        BatchResponses.validateIds(ids);
+
+        List<ProjectView> found = projectService.getByIds(workspaceId, ids);
+        return BatchResponses.of(ids, found, ProjectView::id, projectMapper::toResponse);
+    }
+
     @GetMapping("/{id}")
     public ProjectResponse get(
             @PathVariable UUID workspaceId,
-            @PathVariable UUID id
+            @PathVariable UUID id,
+            @SparseFields(ProjectResponse.class) FieldSet fields
     ) {
         Project project = projectService.getById(workspaceId, id);
         return projectMapper.toResponse(project);
@@ -0,0 +1,46 @@
+package com.teamflow.teamflow.backend.projects.api;
+
+import com.teamflow.teamflow.backend.common.errors.BadRequestException;
+import com.teamflow.teamflow.backend.projects.domain.Project;
+import com.teamflow.teamflow.backend.projects.repo.ProjectKeyset;
+import com.teamflow.teamflow.backend.projects.repo.ProjectSortOrder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor: {@code <sort>|<id>|<value>}, base64url-encoded. The sort is embedded
+ * so a cursor cannot be replayed against a different ordering.
+ */
+final class ProjectCursor {
+    private ProjectCursor() {
+    }
+
+    static String encode(ProjectSortOrder order, Project last) {
+        String raw = sortToken(order) + "|" + last.getId() + "|" + order.key().valueOf(last);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ProjectKeyset decode(String cursor, ProjectSortOrder order) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3 || !parts[0].equals(sortToken(order))) {
+                throw new BadRequestException("Invalid cursor.");
+            }
+            return new ProjectKeyset(order.key().parseValue(parts[2]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BadRequestException("Invalid cursor.");
+        }
+    }
+
+    private static String sortToken(ProjectSortOrder order) {
+        return order.key().property() + "," + order.direction().name().toLowerCase();
+    }
+}
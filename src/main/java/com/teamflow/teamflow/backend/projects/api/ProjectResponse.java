@@ -1,8 +1,12 @@
 package com.teamflow.teamflow.backend.projects.api;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.teamflow.teamflow.backend.common.api.FieldSet;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+@JsonFilter(FieldSet.FILTER_ID)
 public record ProjectResponse(
         UUID id,
         UUID workspaceId,
@@ -1,32 +1,29 @@
 package com.teamflow.teamflow.backend.projects.api;
 
 import com.teamflow.teamflow.backend.common.errors.BadRequestException;
+import com.teamflow.teamflow.backend.projects.repo.ProjectSortKey;
+import com.teamflow.teamflow.backend.projects.repo.ProjectSortOrder;
 import org.springframework.data.domain.Sort;
 
-import java.util.Set;
-
 public final class ProjectSorts {
     private ProjectSorts() {
     }
 
-    private static final Set<String> ALLOWED_FIELDS = Set.of(
-            "updatedAt",
-            "createdAt",
-            "name"
-    );
-
     public static Sort parse(String raw) {
+        return parseOrder(raw).toSort();
+    }
+
+    public static ProjectSortOrder parseOrder(String raw) {
         if (raw == null || raw.isBlank()) {
-            return Sort.by(Sort.Direction.DESC, "updatedAt");
+            return new ProjectSortOrder(ProjectSortKey.UPDATED_AT, Sort.Direction.DESC);
         }
 
         String[] parts = raw.split(",");
         String field = parts[0].trim();
         String dirRaw = parts.length > 1 ? parts[1].trim() : "desc";
 
-        if (!ALLOWED_FIELDS.contains(field)) {
-            throw new BadRequestException("Unsupported sort field: " + field);
-        }
+        ProjectSortKey key = ProjectSortKey.fromProperty(field)
+                .orElseThrow(() -> new BadRequestException("Unsupported sort field: " + field));
 
         Sort.Direction dir;
         try {
@@ -35,6 +32,6 @@ public final class ProjectSorts {
             throw new BadRequestException("Unsupported sort direction: " + dirRaw);
         }
 
-        return Sort.by(dir, field);
+        return new ProjectSortOrder(key, dir);
     }
 }
@@ -2,6 +2,7 @@ package com.teamflow.teamflow.backend.projects.api.mapper;
 
 import com.teamflow.teamflow.backend.projects.api.ProjectResponse;
 import com.teamflow.teamflow.backend.projects.domain.Project;
+import com.teamflow.teamflow.backend.projects.repo.ProjectView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -10,4 +11,7 @@ public interface ProjectMapper {
 
     @Mapping(target = "status", expression = "java(project.getStatus().name())")
     ProjectResponse toResponse(Project project);
+
+    @Mapping(target = "status", expression = "java(view.status().name())")
+    ProjectResponse toResponse(ProjectView view);
 }
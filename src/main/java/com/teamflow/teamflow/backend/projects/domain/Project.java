@@ -1,10 +1,14 @@
 package com.teamflow.teamflow.backend.projects.domain;
 
+import com.teamflow.teamflow.backend.common.cache.CacheRegions;
 import com.teamflow.teamflow.backend.common.errors.ConflictException;
+import com.teamflow.teamflow.backend.common.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -18,10 +22,12 @@ import java.util.UUID;
                 @UniqueConstraint(name = "uq_projects_workspace_name", columnNames = {"workspace_id", "name"})
         }
 )
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PROJECTS)
 public class Project {
 
     @Id
-    @GeneratedValue
+    @UuidV7
     @Column(nullable = false, updatable = false)
     private UUID id;
 
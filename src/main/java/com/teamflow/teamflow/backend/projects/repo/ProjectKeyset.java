@@ -0,0 +1,9 @@
+package com.teamflow.teamflow.backend.projects.repo;
+
+import java.util.UUID;
+
+/**
+ * Position of the last row of the previous slice: its sort key value (already parsed to the
+ * key's type, see {@link ProjectSortKey#parseValue}) and id.
+ */
+public record ProjectKeyset(Comparable<?> value, UUID id) {}
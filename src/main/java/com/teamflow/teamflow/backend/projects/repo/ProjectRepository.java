@@ -1,25 +1,44 @@
 package com.teamflow.teamflow.backend.projects.repo;
 
+import com.teamflow.teamflow.backend.common.cache.CacheRegions;
 import com.teamflow.teamflow.backend.projects.domain.Project;
 import com.teamflow.teamflow.backend.projects.domain.ProjectStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface ProjectRepository extends JpaRepository<Project, UUID> {
+public interface ProjectRepository extends JpaRepository<Project, UUID>, JpaSpecificationExecutor<Project> {
 
-    @Query("""
-            select p from Project p
+    @Query(value = """
+            select new com.teamflow.teamflow.backend.projects.repo.ProjectView(
+                p.id, p.workspaceId, p.name, p.status, p.createdBy, p.createdAt, p.updatedAt)
+            from Project p
+            where p.workspaceId = :workspaceId
+              and p.status = :status
+              and (:q = '' or lower(p.name) like lower(concat('%', :q, '%')))
+            """,
+            countQuery = """
+            select count(p) from Project p
             where p.workspaceId = :workspaceId
               and p.status = :status
               and (:q = '' or lower(p.name) like lower(concat('%', :q, '%')))
             """)
-    Page<Project> search(
+    Page<ProjectView> search(
             @Param("workspaceId") UUID workspaceId,
             @Param("status") ProjectStatus status,
             @Param("q") String q,
@@ -32,8 +51,52 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
             Pageable pageable
     );
 
+    /**
+     * Projects of the workspace changed after the {@code (afterAt, afterId)} keyset and no later than {@code upTo},
+     * in {@code (updatedAt, id)} order; used by delta sync.
+     */
+    @Query("""
+            select new com.teamflow.teamflow.backend.projects.repo.ProjectView(
+                p.id, p.workspaceId, p.name, p.status, p.createdBy, p.createdAt, p.updatedAt)
+            from Project p
+            where p.workspaceId = :workspaceId
+              and p.updatedAt <= :upTo
+              and (p.updatedAt > :afterAt or (p.updatedAt = :afterAt and p.id > :afterId))
+            order by p.updatedAt, p.id
+            """)
+    List<ProjectView> findChangedViews(
+            @Param("workspaceId") UUID workspaceId,
+            @Param("afterAt") LocalDateTime afterAt,
+            @Param("afterId") UUID afterId,
+            @Param("upTo") LocalDateTime upTo,
+            Limit limit
+    );
+
+    @Query("""
+            select new com.teamflow.teamflow.backend.projects.repo.ProjectView(
+                p.id, p.workspaceId, p.name, p.status, p.createdBy, p.createdAt, p.updatedAt)
+            from Project p
+            where p.workspaceId = :workspaceId and p.id in :ids
+            """)
+    List<ProjectView> findViewsByIdInWorkspace(
+            @Param("workspaceId") UUID workspaceId,
+            @Param("ids") Collection<UUID> ids
+    );
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PROJECT_LOOKUPS)
+    })
     Optional<Project> findByIdAndWorkspaceId(UUID id, UUID workspaceId);
 
+    /**
+     * Row-locks the project for the rest of the transaction. Every write of task ranks in the project
+     * (appends, moves, rebalancing) takes this lock first, so keys are computed from a stable column.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Project p where p.id = :id")
+    Optional<Project> lockById(@Param("id") UUID id);
+
     boolean existsByWorkspaceIdAndName(UUID workspaceId, String name);
 
     boolean existsByWorkspaceIdAndNameAndIdNot(UUID workspaceId, String name, UUID id);
@@ -0,0 +1,50 @@
+package com.teamflow.teamflow.backend.projects.repo;
+
+import com.teamflow.teamflow.backend.projects.domain.Project;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Sort keys backed by a {@code (workspace_id, status, <key>, id)} index (V14).
+ */
+public enum ProjectSortKey {
+    UPDATED_AT("updatedAt"),
+    CREATED_AT("createdAt"),
+    NAME("name");
+
+    private final String property;
+
+    ProjectSortKey(String property) {
+        this.property = property;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public String valueOf(Project project) {
+        return switch (this) {
+            case UPDATED_AT -> project.getUpdatedAt().toString();
+            case CREATED_AT -> project.getCreatedAt().toString();
+            case NAME -> project.getName();
+        };
+    }
+
+    /**
+     * Inverse of {@link #valueOf(Project)}; throws {@link java.time.DateTimeException} for a malformed timestamp.
+     */
+    public Comparable<?> parseValue(String value) {
+        return switch (this) {
+            case UPDATED_AT, CREATED_AT -> LocalDateTime.parse(value);
+            case NAME -> value;
+        };
+    }
+
+    public static Optional<ProjectSortKey> fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(key -> key.property.equals(property))
+                .findFirst();
+    }
+}
@@ -0,0 +1,11 @@
+package com.teamflow.teamflow.backend.projects.repo;
+
+import org.springframework.data.domain.Sort;
+
+public record ProjectSortOrder(ProjectSortKey key, Sort.Direction direction) {
+
+    // id breaks ties so the order is total, which keyset pagination relies on.
+    public Sort toSort() {
+        return Sort.by(direction, key.property()).and(Sort.by(direction, "id"));
+    }
+}
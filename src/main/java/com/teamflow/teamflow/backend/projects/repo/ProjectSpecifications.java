@@ -0,0 +1,75 @@
+package com.teamflow.teamflow.backend.projects.repo;
+
+import com.teamflow.teamflow.backend.projects.domain.Project;
+import com.teamflow.teamflow.backend.projects.domain.ProjectStatus;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public final class ProjectSpecifications {
+    private ProjectSpecifications() {
+    }
+
+    public static Specification<Project> scroll(
+            UUID workspaceId,
+            ProjectStatus status,
+            String q,
+            ProjectSortOrder order,
+            ProjectKeyset after
+    ) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("workspaceId"), workspaceId));
+            predicates.add(cb.equal(root.get("status"), status));
+
+            if (!q.isEmpty()) {
+                predicates.add(cb.like(cb.lower(root.get("name")), "%" + q.toLowerCase() + "%"));
+            }
+
+            if (after != null) {
+                boolean descending = order.direction() == Sort.Direction.DESC;
+                String property = order.key().property();
+                Predicate seek = switch (order.key()) {
+                    case UPDATED_AT, CREATED_AT -> seek(root, cb, root.get(property),
+                            (LocalDateTime) after.value(), after.id(), descending);
+                    case NAME -> seek(root, cb, root.get(property), (String) after.value(), after.id(), descending);
+                };
+                predicates.add(seek);
+            }
+
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    // Written as "key <= v AND (key < v OR id < lastId)" rather than a plain OR so the
+    // leading range condition can be used as an index bound.
+    private static <T extends Comparable<? super T>> Predicate seek(
+            Root<Project> root,
+            CriteriaBuilder cb,
+            Path<T> key,
+            T value,
+            UUID lastId,
+            boolean descending
+    ) {
+        Path<UUID> id = root.get("id");
+
+        if (descending) {
+            return cb.and(
+                    cb.lessThanOrEqualTo(key, value),
+                    cb.or(cb.lessThan(key, value), cb.lessThan(id, lastId))
+            );
+        }
+        return cb.and(
+                cb.greaterThanOrEqualTo(key, value),
+                cb.or(cb.greaterThan(key, value), cb.greaterThan(id, lastId))
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.teamflow.teamflow.backend.projects.repo;
+
+import com.teamflow.teamflow.backend.projects.domain.ProjectStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ProjectView(
+        UUID id,
+        UUID workspaceId,
+        String name,
+        ProjectStatus status,
+        UUID createdBy,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {}
@@ -4,17 +4,26 @@ import com.teamflow.teamflow.backend.common.errors.BadRequestException;
 import com.teamflow.teamflow.backend.common.errors.ConflictException;
 import com.teamflow.teamflow.backend.common.errors.ForbiddenException;
 import com.teamflow.teamflow.backend.common.errors.NotFoundException;
+import com.teamflow.teamflow.backend.common.events.WorkspaceChangedEvent;
 import com.teamflow.teamflow.backend.common.security.CurrentUserProvider;
 import com.teamflow.teamflow.backend.projects.domain.Project;
 import com.teamflow.teamflow.backend.projects.domain.ProjectStatus;
+import com.teamflow.teamflow.backend.projects.repo.ProjectKeyset;
 import com.teamflow.teamflow.backend.projects.repo.ProjectRepository;
+import com.teamflow.teamflow.backend.projects.repo.ProjectSortOrder;
+import com.teamflow.teamflow.backend.projects.repo.ProjectSpecifications;
+import com.teamflow.teamflow.backend.projects.repo.ProjectView;
 import com.teamflow.teamflow.backend.workspaces.domain.WorkspaceMemberRole;
 import com.teamflow.teamflow.backend.workspaces.repo.WorkspaceMemberRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -23,15 +32,18 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final WorkspaceMemberRepository workspaceMemberRepository;
     private final CurrentUserProvider currentUserProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ProjectService(
             ProjectRepository projectRepository,
             WorkspaceMemberRepository workspaceMemberRepository,
-            CurrentUserProvider currentUserProvider
+            CurrentUserProvider currentUserProvider,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.projectRepository = projectRepository;
         this.workspaceMemberRepository = workspaceMemberRepository;
         this.currentUserProvider = currentUserProvider;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -50,23 +62,51 @@ public class ProjectService {
         }
 
         Project project = new Project(workspaceId, normalized, userId);
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        publishChange(workspaceId);
+        return saved;
     }
 
     @Transactional(readOnly = true)
-    public Page<Project> list(UUID workspaceId, String status, String q, Pageable pageable) {
+    public Page<ProjectView> list(UUID workspaceId, String status, String q, Pageable pageable) {
         UUID userId = currentUserProvider.getCurrentUserId();
         requireMember(workspaceId, userId);
 
-        ProjectStatus st = "ARCHIVED".equalsIgnoreCase(status)
-                ? ProjectStatus.ARCHIVED
-                : ProjectStatus.ACTIVE;
-
+        ProjectStatus st = parseStatus(status);
         String query = (q == null) ? "" : q.strip();
 
         return projectRepository.search(workspaceId, st, query, pageable);
     }
 
+    @Transactional(readOnly = true)
+    public List<ProjectView> getByIds(UUID workspaceId, Collection<UUID> projectIds) {
+        UUID userId = currentUserProvider.getCurrentUserId();
+        requireMember(workspaceId, userId);
+
+        return projectRepository.findViewsByIdInWorkspace(workspaceId, Set.copyOf(projectIds));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Project> scroll(
+            UUID workspaceId,
+            String status,
+            String q,
+            ProjectSortOrder order,
+            ProjectKeyset after,
+            int limit
+    ) {
+        UUID userId = currentUserProvider.getCurrentUserId();
+        requireMember(workspaceId, userId);
+
+        ProjectStatus st = parseStatus(status);
+        String query = (q == null) ? "" : q.strip();
+
+        return projectRepository.findBy(
+                ProjectSpecifications.scroll(workspaceId, st, query, order, after),
+                fq -> fq.sortBy(order.toSort()).limit(limit).all()
+        );
+    }
+
     @Transactional(readOnly = true)
     public Project getById(UUID workspaceId, UUID projectId) {
         UUID userId = currentUserProvider.getCurrentUserId();
@@ -95,6 +135,7 @@ public class ProjectService {
         }
 
         project.rename(normalized);
+        publishChange(workspaceId);
         return project;
     }
 
@@ -107,6 +148,7 @@ public class ProjectService {
                 .orElseThrow(() -> new NotFoundException("Project not found."));
 
         project.archive();
+        publishChange(workspaceId);
     }
 
     @Transactional
@@ -118,6 +160,17 @@ public class ProjectService {
                 .orElseThrow(() -> new NotFoundException("Project not found."));
 
         project.restore();
+        publishChange(workspaceId);
+    }
+
+    private void publishChange(UUID workspaceId) {
+        eventPublisher.publishEvent(new WorkspaceChangedEvent(workspaceId));
+    }
+
+    private ProjectStatus parseStatus(String status) {
+        return "ARCHIVED".equalsIgnoreCase(status)
+                ? ProjectStatus.ARCHIVED
+                : ProjectStatus.ACTIVE;
     }
 
     private void requireMember(UUID workspaceId, UUID userId) {
@@ -0,0 +1,240 @@
+package com.teamflow.teamflow.backend.seed;
+
+import com.teamflow.teamflow.backend.common.id.UuidV7Generator;
+import com.teamflow.teamflow.backend.tasks.domain.TaskRank;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Streams synthetic users, workspaces, members, projects and tasks into PostgreSQL with COPY.
+ * Workspace size and project size follow a Zipf distribution, so the first workspaces and
+ * their first projects are the "hot" ones.
+ * Only registered under the {@code seed} profile; tests and benchmarks construct it directly.
+ */
+@Component
+@Profile("seed")
+public class BulkDataSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkDataSeeder.class);
+
+    private static final String FILLER = ("Lorem ipsum dolor sit amet, consectetur adipiscing elit, "
+            + "sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. ").repeat(8);
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+
+    public BulkDataSeeder(DataSource dataSource, PasswordEncoder passwordEncoder) {
+        this.dataSource = dataSource;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    public record Result(int users, int workspaces, long members, int projects, long tasks, long elapsedMillis) {}
+
+    public Result seed(SeedPlan plan) {
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(plan.randomSeed());
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        UUID[] userIds = randomIds(random, plan.users(), now);
+        UUID[] workspaceIds = randomIds(random, plan.workspaces(), now);
+        long[] projectsPerWorkspace = zipfAllocation(plan.projects(), plan.workspaces(), plan.skew(), 1);
+        long[] tasksPerProject = zipfAllocation(plan.tasks(), plan.projects(), plan.skew(), 0);
+        int[][] members = assignMembers(plan, random);
+
+        try (Connection connection = dataSource.getConnection()) {
+            PGConnection pg = connection.unwrap(PGConnection.class);
+
+            String passwordHash = passwordEncoder.encode(plan.password());
+            copy(pg, "users (id, email, username, password_hash, role, status, created_at, updated_at, email_verified_at)",
+                    out -> {
+                        for (int u = 0; u < plan.users(); u++) {
+                            String name = plan.prefix() + "-user-" + u;
+                            row(out, userIds[u], name + "@seed.local", name, passwordHash,
+                                    "USER", "ACTIVE", now, now, now);
+                        }
+                    });
+            log.info("Seeded {} users", plan.users());
+
+            copy(pg, "workspaces (id, name, status, created_at, updated_at)", out -> {
+                for (int w = 0; w < plan.workspaces(); w++) {
+                    row(out, workspaceIds[w], plan.prefix() + "-workspace-" + w, "ACTIVE", now, now);
+                }
+            });
+            log.info("Seeded {} workspaces", plan.workspaces());
+
+            long memberCount = 0;
+            for (int[] m : members) {
+                memberCount += m.length;
+            }
+            copy(pg, "workspace_members (workspace_id, user_id, role, joined_at)", out -> {
+                for (int w = 0; w < plan.workspaces(); w++) {
+                    for (int j = 0; j < members[w].length; j++) {
+                        row(out, workspaceIds[w], userIds[members[w][j]], j == 0 ? "OWNER" : "MEMBER", now);
+                    }
+                }
+            });
+            log.info("Seeded {} workspace members", memberCount);
+
+            UUID[] projectIds = new UUID[plan.projects()];
+            int[] projectWorkspace = new int[plan.projects()];
+            copy(pg, "projects (id, workspace_id, name, status, created_by, created_at, updated_at)", out -> {
+                int p = 0;
+                for (int w = 0; w < plan.workspaces(); w++) {
+                    UUID owner = userIds[members[w][0]];
+                    for (int i = 0; i < projectsPerWorkspace[w]; i++, p++) {
+                        projectWorkspace[p] = w;
+                        LocalDateTime createdAt = now.minusMinutes(random.nextInt(525_600));
+                        projectIds[p] = randomId(random, createdAt);
+                        row(out, projectIds[p], workspaceIds[w], "Project " + i,
+                                random.nextInt(10) == 0 ? "ARCHIVED" : "ACTIVE",
+                                owner, createdAt, createdAt);
+                    }
+                }
+            });
+            log.info("Seeded {} projects", plan.projects());
+
+            copy(pg, "tasks (id, workspace_id, project_id, title, description, status, rank, assignee_user_id, "
+                            + "created_by, created_at, updated_at)",
+                    out -> {
+                        for (int p = 0; p < plan.projects(); p++) {
+                            int[] workspaceMembers = members[projectWorkspace[p]];
+                            for (long t = 0; t < tasksPerProject[p]; t++) {
+                                LocalDateTime createdAt = now.minusSeconds(random.nextInt(31_536_000));
+                                LocalDateTime updatedAt = createdAt.plusSeconds(
+                                        random.nextInt((int) ChronoUnit.SECONDS.between(createdAt, now) + 1));
+                                UUID assignee = random.nextInt(4) == 0
+                                        ? null
+                                        : userIds[workspaceMembers[random.nextInt(workspaceMembers.length)]];
+                                row(out, randomId(random, createdAt), workspaceIds[projectWorkspace[p]], projectIds[p],
+                                        "Task " + t,
+                                        FILLER.substring(0, random.nextInt(FILLER.length())),
+                                        taskStatus(random), TaskRank.spaced(t, tasksPerProject[p]), assignee,
+                                        userIds[workspaceMembers[random.nextInt(workspaceMembers.length)]],
+                                        createdAt, updatedAt);
+                            }
+                        }
+                    });
+            log.info("Seeded {} tasks", plan.tasks());
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE users, workspaces, workspace_members, projects, tasks");
+            }
+
+            long elapsed = (System.nanoTime() - start) / 1_000_000;
+            return new Result(plan.users(), plan.workspaces(), memberCount, plan.projects(), plan.tasks(), elapsed);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Seeding failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Splits {@code total} across {@code buckets} proportionally to 1/rank^skew, guaranteeing
+     * {@code minPerBucket} to every bucket. A skew of 0 is a uniform split.
+     */
+    static long[] zipfAllocation(long total, int buckets, double skew, long minPerBucket) {
+        long[] allocation = new long[buckets];
+        long distributable = total - minPerBucket * buckets;
+        if (distributable < 0) {
+            throw new IllegalArgumentException("total is smaller than the guaranteed minimum.");
+        }
+
+        double[] weights = new double[buckets];
+        double sum = 0;
+        for (int i = 0; i < buckets; i++) {
+            weights[i] = 1.0 / Math.pow(i + 1, skew);
+            sum += weights[i];
+        }
+
+        long assigned = 0;
+        for (int i = 0; i < buckets; i++) {
+            allocation[i] = minPerBucket + (long) Math.floor(distributable * weights[i] / sum);
+            assigned += allocation[i];
+        }
+        // Rounding leftovers go to the hottest buckets.
+        for (int i = 0; assigned < total; i = (i + 1) % buckets, assigned++) {
+            allocation[i]++;
+        }
+        return allocation;
+    }
+
+    private static int[][] assignMembers(SeedPlan plan, SplittableRandom random) {
+        int[][] members = new int[plan.workspaces()][];
+        for (int w = 0; w < plan.workspaces(); w++) {
+            int size = (int) Math.max(plan.minMembersPerWorkspace(),
+                    Math.round(plan.maxMembersPerWorkspace() / Math.pow(w + 1, plan.skew())));
+            size = Math.min(size, plan.maxMembersPerWorkspace());
+
+            // Consecutive user indices from a random offset: distinct, and users overlap across workspaces.
+            int offset = random.nextInt(plan.users());
+            members[w] = new int[size];
+            for (int j = 0; j < size; j++) {
+                members[w][j] = (offset + j) % plan.users();
+            }
+        }
+        return members;
+    }
+
+    private static String taskStatus(SplittableRandom random) {
+        int roll = random.nextInt(10);
+        return roll < 4 ? "TODO" : roll < 6 ? "IN_PROGRESS" : "DONE";
+    }
+
+    private static UUID[] randomIds(SplittableRandom random, int count, LocalDateTime createdAt) {
+        UUID[] ids = new UUID[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = randomId(random, createdAt);
+        }
+        return ids;
+    }
+
+    // UUIDv7 stamped with the row's creation time, so id order follows created_at as for rows inserted by the app.
+    private static UUID randomId(SplittableRandom random, LocalDateTime createdAt) {
+        long epochMillis = createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return UuidV7Generator.of(epochMillis, random.nextLong(), random.nextLong());
+    }
+
+    private interface RowWriter {
+        void write(Writer out) throws IOException;
+    }
+
+    private static void copy(PGConnection pg, String target, RowWriter rows) throws SQLException {
+        try (PGCopyOutputStream stream = new PGCopyOutputStream(pg, "COPY " + target + " FROM STDIN", 1 << 16);
+             Writer out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), 1 << 16)) {
+            rows.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // COPY text format; generated values never contain tabs, newlines or backslashes.
+    private static void row(Writer out, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write('\t');
+            }
+            out.write(values[i] == null ? "\\N" : values[i].toString());
+        }
+        out.write('\n');
+    }
+}
@@ -0,0 +1,43 @@
+package com.teamflow.teamflow.backend.seed;
+
+public record SeedPlan(
+        String prefix,
+        int users,
+        int workspaces,
+        int projects,
+        long tasks,
+        int minMembersPerWorkspace,
+        int maxMembersPerWorkspace,
+        double skew,
+        long randomSeed,
+        String password
+) {
+
+    public SeedPlan {
+        if (users < 1 || workspaces < 1 || projects < workspaces || tasks < 0) {
+            throw new IllegalArgumentException(
+                    "Seed plan needs at least one user and workspace, and one project per workspace.");
+        }
+        if (minMembersPerWorkspace < 1 || maxMembersPerWorkspace < minMembersPerWorkspace) {
+            throw new IllegalArgumentException("Invalid members-per-workspace range.");
+        }
+        if (maxMembersPerWorkspace > users) {
+            throw new IllegalArgumentException("maxMembersPerWorkspace cannot exceed users.");
+        }
+        if (skew < 0) {
+            throw new IllegalArgumentException("skew must be >= 0.");
+        }
+        if (!prefix.matches("[a-z0-9]{1,20}")) {
+            throw new IllegalArgumentException("prefix must be 1-20 lowercase letters or digits.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SeedPlan[prefix=" + prefix + ", users=" + users + ", workspaces=" + workspaces
+                + ", projects=" + projects + ", tasks=" + tasks
+                + ", minMembersPerWorkspace=" + minMembersPerWorkspace
+                + ", maxMembersPerWorkspace=" + maxMembersPerWorkspace
+                + ", skew=" + skew + ", randomSeed=" + randomSeed + ", password=****]";
+    }
+}
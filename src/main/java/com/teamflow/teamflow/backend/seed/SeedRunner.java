@@ -0,0 +1,51 @@
+package com.teamflow.teamflow.backend.seed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("seed")
+public class SeedRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SeedRunner.class);
+
+    private final BulkDataSeeder seeder;
+    private final ConfigurableApplicationContext context;
+    private final SeedPlan plan;
+
+    public SeedRunner(
+            BulkDataSeeder seeder,
+            ConfigurableApplicationContext context,
+            @Value("${teamflow.seed.prefix:seed}") String prefix,
+            @Value("${teamflow.seed.users:10000}") int users,
+            @Value("${teamflow.seed.workspaces:1000}") int workspaces,
+            @Value("${teamflow.seed.projects:20000}") int projects,
+            @Value("${teamflow.seed.tasks:1000000}") long tasks,
+            @Value("${teamflow.seed.min-members-per-workspace:3}") int minMembers,
+            @Value("${teamflow.seed.max-members-per-workspace:200}") int maxMembers,
+            @Value("${teamflow.seed.skew:1.0}") double skew,
+            @Value("${teamflow.seed.random-seed:42}") long randomSeed,
+            @Value("${teamflow.seed.password:password123}") String password
+    ) {
+        this.seeder = seeder;
+        this.context = context;
+        this.plan = new SeedPlan(prefix, users, workspaces, projects, tasks,
+                minMembers, maxMembers, skew, randomSeed, password);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Seeding database: {}", plan);
+        BulkDataSeeder.Result result = seeder.seed(plan);
+        log.info("Seeding finished in {} ms: {}", result.elapsedMillis(), result);
+
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
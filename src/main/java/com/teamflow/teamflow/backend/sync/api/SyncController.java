@@ -0,0 +1,51 @@
+package com.teamflow.teamflow.backend.sync.api;
+
+import com.teamflow.teamflow.backend.common.errors.BadRequestException;
+import com.teamflow.teamflow.backend.projects.api.mapper.ProjectMapper;
+import com.teamflow.teamflow.backend.sync.api.mapper.SyncMapper;
+import com.teamflow.teamflow.backend.sync.service.SyncBatch;
+import com.teamflow.teamflow.backend.sync.service.SyncService;
+import com.teamflow.teamflow.backend.tasks.api.mapper.TaskMapper;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/workspaces/{workspaceId}/sync")
+public class SyncController {
+
+    private static final int MAX_SYNC_LIMIT = 1000;
+
+    private final SyncService syncService;
+    private final ProjectMapper projectMapper;
+    private final TaskMapper taskMapper;
+    private final SyncMapper syncMapper;
+
+    public SyncController(SyncService syncService, ProjectMapper projectMapper, TaskMapper taskMapper, SyncMapper syncMapper) {
+        this.syncService = syncService;
+        this.projectMapper = projectMapper;
+        this.taskMapper = taskMapper;
+        this.syncMapper = syncMapper;
+    }
+
+    @GetMapping
+    public SyncResponse changes(
+            @PathVariable UUID workspaceId,
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit
+    ) {
+        if (limit < 1 || limit > MAX_SYNC_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_SYNC_LIMIT + ".");
+        }
+
+        SyncBatch batch = syncService.changes(workspaceId, SyncWatermarkCodec.decode(since), limit);
+
+        return new SyncResponse(
+                batch.projects().stream().map(projectMapper::toResponse).toList(),
+                batch.tasks().stream().map(taskMapper::toResponse).toList(),
+                batch.removed().stream().map(syncMapper::toResponse).toList(),
+                SyncWatermarkCodec.encode(batch.watermark()),
+                batch.hasMore()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.teamflow.teamflow.backend.sync.api;
+
+import com.teamflow.teamflow.backend.projects.api.ProjectResponse;
+import com.teamflow.teamflow.backend.tasks.api.TaskResponse;
+
+import java.util.List;
+
+public record SyncResponse(
+        List<ProjectResponse> projects,
+        List<TaskResponse> tasks,
+        List<SyncTombstoneResponse> removed,
+        String watermark,
+        boolean hasMore
+) {}
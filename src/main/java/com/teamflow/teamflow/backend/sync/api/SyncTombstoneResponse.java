@@ -0,0 +1,10 @@
+package com.teamflow.teamflow.backend.sync.api;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record SyncTombstoneResponse(
+        String entityType,
+        UUID entityId,
+        LocalDateTime deletedAt
+) {}
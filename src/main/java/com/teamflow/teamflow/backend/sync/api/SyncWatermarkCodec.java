@@ -0,0 +1,56 @@
+package com.teamflow.teamflow.backend.sync.api;
+
+import com.teamflow.teamflow.backend.common.errors.BadRequestException;
+import com.teamflow.teamflow.backend.sync.service.SyncPosition;
+import com.teamflow.teamflow.backend.sync.service.SyncWatermark;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque watermark: {@code v1|<projects>|<tasks>|<tombstones>}, each position as {@code <timestamp>|<id>},
+ * base64url-encoded.
+ */
+final class SyncWatermarkCodec {
+    private static final String VERSION = "v1";
+
+    private SyncWatermarkCodec() {
+    }
+
+    static String encode(SyncWatermark watermark) {
+        String raw = String.join("|",
+                VERSION,
+                watermark.projects().at().toString(), watermark.projects().id().toString(),
+                watermark.tasks().at().toString(), watermark.tasks().id().toString(),
+                watermark.tombstones().at().toString(), watermark.tombstones().id().toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static SyncWatermark decode(String watermark) {
+        if (watermark == null || watermark.isBlank()) {
+            return SyncWatermark.INITIAL;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(watermark), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 7 || !parts[0].equals(VERSION)) {
+                throw new BadRequestException("Invalid sync watermark.");
+            }
+            return new SyncWatermark(
+                    position(parts[1], parts[2]),
+                    position(parts[3], parts[4]),
+                    position(parts[5], parts[6])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid sync watermark.");
+        }
+    }
+
+    private static SyncPosition position(String at, String id) {
+        return new SyncPosition(LocalDateTime.parse(at), UUID.fromString(id));
+    }
+}
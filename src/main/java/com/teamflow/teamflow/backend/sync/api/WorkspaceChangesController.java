@@ -0,0 +1,44 @@
+package com.teamflow.teamflow.backend.sync.api;
+
+import com.teamflow.teamflow.backend.common.errors.BadRequestException;
+import com.teamflow.teamflow.backend.sync.service.SyncService;
+import com.teamflow.teamflow.backend.sync.service.WorkspaceChangeRegistry;
+import com.teamflow.teamflow.backend.sync.service.WorkspaceChanges;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Long-poll alternative to SSE: the request is parked (no worker thread, no connection) until a task or
+ * project of the workspace changes or the timeout passes. Clients call {@code /sync} when {@code changed}.
+ */
+@RestController
+@RequestMapping("/api/v1/workspaces/{workspaceId}/changes")
+public class WorkspaceChangesController {
+
+    private static final int MAX_TIMEOUT_SECONDS = 60;
+
+    private final SyncService syncService;
+    private final WorkspaceChangeRegistry workspaceChangeRegistry;
+
+    public WorkspaceChangesController(SyncService syncService, WorkspaceChangeRegistry workspaceChangeRegistry) {
+        this.syncService = syncService;
+        this.workspaceChangeRegistry = workspaceChangeRegistry;
+    }
+
+    @GetMapping
+    public DeferredResult<WorkspaceChanges> await(
+            @PathVariable UUID workspaceId,
+            @RequestParam(required = false) String token,
+            @RequestParam(defaultValue = "25") int timeoutSeconds
+    ) {
+        if (timeoutSeconds < 1 || timeoutSeconds > MAX_TIMEOUT_SECONDS) {
+            throw new BadRequestException("timeoutSeconds must be between 1 and " + MAX_TIMEOUT_SECONDS + ".");
+        }
+
+        syncService.requireMember(workspaceId);
+        return workspaceChangeRegistry.await(workspaceId, token, Duration.ofSeconds(timeoutSeconds));
+    }
+}
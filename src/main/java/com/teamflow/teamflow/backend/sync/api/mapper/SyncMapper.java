@@ -0,0 +1,13 @@
+package com.teamflow.teamflow.backend.sync.api.mapper;
+
+import com.teamflow.teamflow.backend.sync.api.SyncTombstoneResponse;
+import com.teamflow.teamflow.backend.sync.domain.SyncTombstone;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface SyncMapper {
+
+    @Mapping(target = "entityType", expression = "java(tombstone.getEntityType().name())")
+    SyncTombstoneResponse toResponse(SyncTombstone tombstone);
+}
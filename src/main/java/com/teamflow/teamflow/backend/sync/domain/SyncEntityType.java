@@ -0,0 +1,6 @@
+package com.teamflow.teamflow.backend.sync.domain;
+
+public enum SyncEntityType {
+    PROJECT,
+    TASK
+}
@@ -0,0 +1,29 @@
+package com.teamflow.teamflow.backend.sync.repo;
+
+import com.teamflow.teamflow.backend.sync.domain.SyncTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, UUID> {
+
+    @Query("""
+            select s from SyncTombstone s
+            where s.workspaceId = :workspaceId
+              and s.deletedAt <= :upTo
+              and (s.deletedAt > :afterAt or (s.deletedAt = :afterAt and s.id > :afterId))
+            order by s.deletedAt, s.id
+            """)
+    List<SyncTombstone> findChanged(
+            @Param("workspaceId") UUID workspaceId,
+            @Param("afterAt") LocalDateTime afterAt,
+            @Param("afterId") UUID afterId,
+            @Param("upTo") LocalDateTime upTo,
+            Limit limit
+    );
+}
@@ -0,0 +1,15 @@
+package com.teamflow.teamflow.backend.sync.service;
+
+import com.teamflow.teamflow.backend.projects.repo.ProjectView;
+import com.teamflow.teamflow.backend.sync.domain.SyncTombstone;
+import com.teamflow.teamflow.backend.tasks.repo.TaskView;
+
+import java.util.List;
+
+public record SyncBatch(
+        List<ProjectView> projects,
+        List<TaskView> tasks,
+        List<SyncTombstone> removed,
+        SyncWatermark watermark,
+        boolean hasMore
+) {}
@@ -0,0 +1,12 @@
+package com.teamflow.teamflow.backend.sync.service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Keyset position in one change stream: the {@code (timestamp, id)} of the last row a client received.
+ */
+public record SyncPosition(LocalDateTime at, UUID id) {
+
+    public static final SyncPosition START = new SyncPosition(LocalDateTime.of(1970, 1, 1, 0, 0), new UUID(0, 0));
+}
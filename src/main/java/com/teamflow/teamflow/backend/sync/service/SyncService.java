@@ -0,0 +1,102 @@
+package com.teamflow.teamflow.backend.sync.service;
+
+import com.teamflow.teamflow.backend.common.errors.NotFoundException;
+import com.teamflow.teamflow.backend.common.security.CurrentUserProvider;
+import com.teamflow.teamflow.backend.projects.repo.ProjectRepository;
+import com.teamflow.teamflow.backend.projects.repo.ProjectView;
+import com.teamflow.teamflow.backend.sync.domain.SyncTombstone;
+import com.teamflow.teamflow.backend.sync.repo.SyncTombstoneRepository;
+import com.teamflow.teamflow.backend.tasks.repo.TaskRepository;
+import com.teamflow.teamflow.backend.tasks.repo.TaskView;
+import com.teamflow.teamflow.backend.workspaces.repo.WorkspaceMemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Service
+public class SyncService {
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final CurrentUserProvider currentUserProvider;
+    private final Duration settleWindow;
+
+    public SyncService(
+            ProjectRepository projectRepository,
+            TaskRepository taskRepository,
+            SyncTombstoneRepository syncTombstoneRepository,
+            WorkspaceMemberRepository workspaceMemberRepository,
+            CurrentUserProvider currentUserProvider,
+            @Value("${teamflow.sync.settle-window-ms:2000}") long settleWindowMs
+    ) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.workspaceMemberRepository = workspaceMemberRepository;
+        this.currentUserProvider = currentUserProvider;
+        this.settleWindow = Duration.ofMillis(settleWindowMs);
+    }
+
+    /**
+     * Returns up to {@code limit} rows per stream changed after {@code since}.
+     * <p>
+     * {@code updated_at} is stamped before commit, so a slow transaction can become visible with a timestamp
+     * older than rows already synced. Rows younger than the settle window are therefore held back until
+     * the next call instead of being skipped for good.
+     */
+    @Transactional(readOnly = true)
+    public SyncBatch changes(UUID workspaceId, SyncWatermark since, int limit) {
+        requireMember(workspaceId);
+
+        LocalDateTime upTo = LocalDateTime.now().minus(settleWindow);
+        Limit fetch = Limit.of(limit + 1);
+
+        List<ProjectView> projects = projectRepository.findChangedViews(
+                workspaceId, since.projects().at(), since.projects().id(), upTo, fetch);
+        List<TaskView> tasks = taskRepository.findChangedViews(
+                workspaceId, since.tasks().at(), since.tasks().id(), upTo, fetch);
+        List<SyncTombstone> removed = syncTombstoneRepository.findChanged(
+                workspaceId, since.tombstones().at(), since.tombstones().id(), upTo, fetch);
+
+        boolean hasMore = projects.size() > limit || tasks.size() > limit || removed.size() > limit;
+        projects = trim(projects, limit);
+        tasks = trim(tasks, limit);
+        removed = trim(removed, limit);
+
+        SyncWatermark watermark = new SyncWatermark(
+                advance(since.projects(), projects, p -> new SyncPosition(p.updatedAt(), p.id())),
+                advance(since.tasks(), tasks, t -> new SyncPosition(t.updatedAt(), t.id())),
+                advance(since.tombstones(), removed, s -> new SyncPosition(s.getDeletedAt(), s.getId()))
+        );
+
+        return new SyncBatch(projects, tasks, removed, watermark, hasMore);
+    }
+
+    /**
+     * Membership check for long-poll requests; runs in its own short transaction so nothing is held
+     * while the request is parked.
+     */
+    @Transactional(readOnly = true)
+    public void requireMember(UUID workspaceId) {
+        UUID userId = currentUserProvider.getCurrentUserId();
+        workspaceMemberRepository.findRole(workspaceId, userId)
+                .orElseThrow(() -> new NotFoundException("Workspace not found."));
+    }
+
+    private static <T> List<T> trim(List<T> rows, int limit) {
+        return rows.size() > limit ? rows.subList(0, limit) : rows;
+    }
+
+    private static <T> SyncPosition advance(SyncPosition current, List<T> rows, Function<T, SyncPosition> position) {
+        return rows.isEmpty() ? current : position.apply(rows.getLast());
+    }
+}
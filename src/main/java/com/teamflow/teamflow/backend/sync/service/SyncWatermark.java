@@ -0,0 +1,10 @@
+package com.teamflow.teamflow.backend.sync.service;
+
+/**
+ * Where a client is in each change stream. Projects, tasks and tombstones advance independently
+ * because each stream is paged on its own.
+ */
+public record SyncWatermark(SyncPosition projects, SyncPosition tasks, SyncPosition tombstones) {
+
+    public static final SyncWatermark INITIAL = new SyncWatermark(SyncPosition.START, SyncPosition.START, SyncPosition.START);
+}
@@ -0,0 +1,125 @@
+package com.teamflow.teamflow.backend.sync.service;
+
+import com.teamflow.teamflow.backend.common.errors.BadRequestException;
+import com.teamflow.teamflow.backend.common.events.WorkspaceChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Parks long-poll requests per workspace and completes them after a task or project change commits.
+ * <p>
+ * Tokens are {@code <instance>.<sequence>}: the sequence of the last change the client has seen on this
+ * instance. State is per instance, so a token from another instance (or from before a restart) simply parks
+ * until the next change here.
+ */
+@Component
+public class WorkspaceChangeRegistry {
+
+    private static final Duration CHANGE_RETENTION = Duration.ofMinutes(10);
+
+    private final String instanceId = Long.toHexString(UUID.randomUUID().getMostSignificantBits());
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<UUID, Change> lastChanges = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<DeferredResult<WorkspaceChanges>>> waiters = new ConcurrentHashMap<>();
+    private volatile long evictedThrough;
+
+    private record Change(long sequence, long atNanos) {}
+
+    public WorkspaceChangeRegistry(MeterRegistry meterRegistry) {
+        Gauge.builder("teamflow.changes.parked", this, WorkspaceChangeRegistry::parkedCount)
+                .register(meterRegistry);
+    }
+
+    public DeferredResult<WorkspaceChanges> await(UUID workspaceId, String token, Duration timeout) {
+        Long seen = parse(token);
+        DeferredResult<WorkspaceChanges> result =
+                new DeferredResult<>(timeout.toMillis(), () -> new WorkspaceChanges(false, currentToken()));
+
+        // Register before checking, so a change committed in between either is seen here or completes us.
+        waiters.computeIfAbsent(workspaceId, id -> ConcurrentHashMap.newKeySet()).add(result);
+        result.onCompletion(() -> remove(workspaceId, result));
+
+        if (seen != null && changedSince(workspaceId, seen)) {
+            result.setResult(new WorkspaceChanges(true, currentToken()));
+        }
+        return result;
+    }
+
+    public String currentToken() {
+        return instanceId + "." + sequence.get();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onWorkspaceChanged(WorkspaceChangedEvent event) {
+        long seq = sequence.incrementAndGet();
+        lastChanges.put(event.workspaceId(), new Change(seq, System.nanoTime()));
+
+        Set<DeferredResult<WorkspaceChanges>> parked = waiters.remove(event.workspaceId());
+        if (parked != null) {
+            WorkspaceChanges changes = new WorkspaceChanges(true, instanceId + "." + seq);
+            parked.forEach(waiter -> waiter.setResult(changes));
+        }
+    }
+
+    public int parkedCount() {
+        return waiters.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long cutoff = System.nanoTime() - CHANGE_RETENTION.toNanos();
+        lastChanges.values().removeIf(change -> {
+            if (change.atNanos() - cutoff < 0) {
+                evictedThrough = Math.max(evictedThrough, change.sequence());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private boolean changedSince(UUID workspaceId, long seen) {
+        if (seen < evictedThrough) {
+            // The change history this token refers to is gone; let the client resync.
+            return true;
+        }
+        Change last = lastChanges.get(workspaceId);
+        return last != null && last.sequence() > seen;
+    }
+
+    private Long parse(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        int dot = token.indexOf('.');
+        if (dot < 0) {
+            throw new BadRequestException("Invalid change token.");
+        }
+        if (!token.substring(0, dot).equals(instanceId)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(token.substring(dot + 1));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid change token.");
+        }
+    }
+
+    private void remove(UUID workspaceId, DeferredResult<WorkspaceChanges> result) {
+        waiters.computeIfPresent(workspaceId, (id, parked) -> {
+            parked.remove(result);
+            return parked.isEmpty() ? null : parked;
+        });
+    }
+}
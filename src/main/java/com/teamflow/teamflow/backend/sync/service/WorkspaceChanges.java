@@ -0,0 +1,6 @@
+package com.teamflow.teamflow.backend.sync.service;
+
+/**
+ * Long-poll result: whether the workspace changed since the client's token, and the token to send next.
+ */
+public record WorkspaceChanges(boolean changed, String token) {}
@@ -0,0 +1,22 @@
+package com.teamflow.teamflow.backend.tasks.api;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+
+import java.util.UUID;
+
+/**
+ * Drop position on the board: the cards that end up directly above ({@code afterTaskId}) and below
+ * ({@code beforeTaskId}) the moved task. Omit one at a column edge, both to append to the column.
+ */
+public record MoveTaskRequest(
+        @Size(max = 32) String status,
+        UUID afterTaskId,
+        UUID beforeTaskId
+) {
+
+    @AssertTrue(message = "afterTaskId and beforeTaskId must be different tasks.")
+    public boolean isDistinctNeighbours() {
+        return afterTaskId == null || !afterTaskId.equals(beforeTaskId);
+    }
+}
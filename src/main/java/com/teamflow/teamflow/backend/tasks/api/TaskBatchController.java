@@ -0,0 +1,35 @@
+package com.teamflow.teamflow.backend.tasks.api;
+
+import com.teamflow.teamflow.backend.common.api.BatchResponse;
+import com.teamflow.teamflow.backend.common.api.BatchResponses;
+import com.teamflow.teamflow.backend.tasks.api.mapper.TaskMapper;
+import com.teamflow.teamflow.backend.tasks.repo.TaskView;
+import com.teamflow.teamflow.backend.tasks.service.TaskService;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/workspaces/{workspaceId}/tasks")
+public class TaskBatchController {
+
+    private final TaskService taskService;
+    private final TaskMapper taskMapper;
+
+    public TaskBatchController(TaskService taskService, TaskMapper taskMapper) {
+        this.taskService = taskService;
+        this.taskMapper = taskMapper;
+    }
+
+    @GetMapping("/batch")
+    public BatchResponse<TaskResponse> batch(
+            @PathVariable UUID workspaceId,
+            @RequestParam List<UUID> ids
+    ) {
+        BatchResponses.validateIds(ids);
+
+        List<TaskView> found = taskService.getByIds(workspaceId, ids);
+        return BatchResponses.of(ids, found, TaskView::id, taskMapper::toResponse);
+    }
+}
@@ -0,0 +1,9 @@
+package com.teamflow.teamflow.backend.tasks.api;
+
+import java.util.List;
+
+public record TaskBoardColumnResponse(
+        String status,
+        long total,
+        List<TaskResponse> tasks
+) {}
@@ -0,0 +1,7 @@
+package com.teamflow.teamflow.backend.tasks.api;
+
+import java.util.List;
+
+public record TaskBoardResponse(
+        List<TaskBoardColumnResponse> columns
+) {}
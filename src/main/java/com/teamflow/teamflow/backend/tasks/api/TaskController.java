@@ -1,11 +1,15 @@
 package com.teamflow.teamflow.backend.tasks.api;
 
+import com.teamflow.teamflow.backend.common.api.FieldSet;
 import com.teamflow.teamflow.backend.common.api.PageResponse;
 import com.teamflow.teamflow.backend.common.api.PageResponses;
+import com.teamflow.teamflow.backend.common.api.SparseFields;
 import com.teamflow.teamflow.backend.common.errors.BadRequestException;
 import com.teamflow.teamflow.backend.tasks.api.mapper.TaskMapper;
 import com.teamflow.teamflow.backend.tasks.domain.Task;
 import com.teamflow.teamflow.backend.tasks.domain.TaskStatus;
+import com.teamflow.teamflow.backend.tasks.repo.TaskBoardColumn;
+import com.teamflow.teamflow.backend.tasks.repo.TaskView;
 import com.teamflow.teamflow.backend.tasks.service.TaskService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
@@ -13,12 +17,15 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks")
 public class TaskController {
 
+    private static final int MAX_BOARD_COLUMN_SIZE = 100;
+
     private final TaskService taskService;
     private final TaskMapper taskMapper;
 
@@ -44,22 +51,38 @@ public class TaskController {
             @PathVariable UUID projectId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "50") int size,
-            @RequestParam(required = false) String status
+            @RequestParam(required = false) String status,
+            @SparseFields(TaskResponse.class) FieldSet fields
     ) {
         PageRequest pr = PageRequest.of(page, size);
         TaskStatus parsed = (status == null || status.isBlank()) ? null : parseStatus(status);
 
-        Page<Task> result = taskService.list(workspaceId, projectId, parsed, pr);
+        Page<TaskView> result = taskService.list(workspaceId, projectId, parsed, fields.includes("description"), pr);
         return PageResponses.of(result, taskMapper::toResponse);
     }
 
+    @GetMapping("/board")
+    public TaskBoardResponse board(
+            @PathVariable UUID workspaceId,
+            @PathVariable UUID projectId,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        if (limit < 1 || limit > MAX_BOARD_COLUMN_SIZE) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_BOARD_COLUMN_SIZE + ".");
+        }
+
+        List<TaskBoardColumn> columns = taskService.board(workspaceId, projectId, limit);
+        return new TaskBoardResponse(columns.stream().map(taskMapper::toResponse).toList());
+    }
+
     @GetMapping("/{id}")
     public TaskResponse get(
             @PathVariable UUID workspaceId,
             @PathVariable UUID projectId,
-            @PathVariable UUID id
+            @PathVariable UUID id,
+            @SparseFields(TaskResponse.class) FieldSet fields
     ) {
-        Task task = taskService.getById(workspaceId, projectId, id);
+        TaskView task = taskService.getView(workspaceId, projectId, id, fields.includes("description"));
         return taskMapper.toResponse(task);
     }
 
@@ -86,6 +109,18 @@ public class TaskController {
         return taskMapper.toResponse(task);
     }
 
+    @PostMapping("/{id}/move")
+    public TaskResponse move(
+            @PathVariable UUID workspaceId,
+            @PathVariable UUID projectId,
+            @PathVariable UUID id,
+            @Valid @RequestBody MoveTaskRequest req
+    ) {
+        TaskStatus status = req.status() == null ? null : parseStatus(req.status());
+        Task task = taskService.move(workspaceId, projectId, id, status, req.afterTaskId(), req.beforeTaskId());
+        return taskMapper.toResponse(task);
+    }
+
     @PostMapping("/{id}/assign")
     public TaskResponse assign(
             @PathVariable UUID workspaceId,
@@ -1,8 +1,12 @@
 package com.teamflow.teamflow.backend.tasks.api;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.teamflow.teamflow.backend.common.api.FieldSet;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+@JsonFilter(FieldSet.FILTER_ID)
 public record TaskResponse(
         UUID id,
         UUID projectId,
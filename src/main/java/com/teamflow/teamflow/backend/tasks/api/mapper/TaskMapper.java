@@ -1,7 +1,10 @@
 package com.teamflow.teamflow.backend.tasks.api.mapper;
 
+import com.teamflow.teamflow.backend.tasks.api.TaskBoardColumnResponse;
 import com.teamflow.teamflow.backend.tasks.api.TaskResponse;
 import com.teamflow.teamflow.backend.tasks.domain.Task;
+import com.teamflow.teamflow.backend.tasks.repo.TaskBoardColumn;
+import com.teamflow.teamflow.backend.tasks.repo.TaskView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -10,4 +13,10 @@ public interface TaskMapper {
 
     @Mapping(target = "status", expression = "java(task.getStatus().name())")
     TaskResponse toResponse(Task task);
+
+    @Mapping(target = "status", expression = "java(view.status().name())")
+    TaskResponse toResponse(TaskView view);
+
+    @Mapping(target = "status", expression = "java(column.status().name())")
+    TaskBoardColumnResponse toResponse(TaskBoardColumn column);
 }
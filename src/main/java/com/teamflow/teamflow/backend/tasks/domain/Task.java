@@ -1,10 +1,12 @@
 package com.teamflow.teamflow.backend.tasks.domain;
 
 import com.teamflow.teamflow.backend.common.errors.BadRequestException;
+import com.teamflow.teamflow.backend.common.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -13,13 +15,20 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Table(name = "tasks")
+// Updates only write changed columns, so an edit or assignment never writes back a rank that a move or the
+// rebalancer changed in the meantime.
+@DynamicUpdate
 public class Task {
 
     @Id
-    @GeneratedValue
+    @UuidV7
     @Column(nullable = false, updatable = false)
     private UUID id;
 
+    // Copy of the project's workspace (enforced by a composite FK) so tasks are scoped without a join.
+    @Column(name = "workspace_id", nullable = false, updatable = false)
+    private UUID workspaceId;
+
     @Column(name = "project_id", nullable = false, updatable = false)
     private UUID projectId;
 
@@ -33,6 +42,9 @@ public class Task {
     @Column(nullable = false)
     private TaskStatus status;
 
+    @Column(name = "rank", nullable = false)
+    private String rank;
+
     @Column(name = "assignee_user_id")
     private UUID assigneeUserId;
 
@@ -45,7 +57,8 @@ public class Task {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
-    public Task(UUID projectId, String title, String description, UUID createdBy) {
+    public Task(UUID workspaceId, UUID projectId, String title, String description, UUID createdBy) {
+        this.workspaceId = workspaceId;
         this.projectId = projectId;
         this.title = normalizeRequired(title, "Task title must not be blank.");
         this.description = normalizeOptional(description);
@@ -70,11 +83,15 @@ public class Task {
         this.description = normalizeOptional(description);
     }
 
-    public void changeStatus(TaskStatus newStatus) {
-        if (newStatus == null) {
+    /**
+     * Places the task at {@code rank} within the {@code status} column; see {@link TaskRank}.
+     */
+    public void moveTo(TaskStatus status, String rank) {
+        if (status == null) {
             throw new BadRequestException("Task status must not be null.");
         }
-        this.status = newStatus;
+        this.status = status;
+        this.rank = rank;
     }
 
     public void assignTo(UUID userId) {
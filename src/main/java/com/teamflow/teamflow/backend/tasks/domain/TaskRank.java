@@ -0,0 +1,155 @@
+package com.teamflow.teamflow.backend.tasks.domain;
+
+/**
+ * Fractional ordering keys for tasks within a board column.
+ * <p>
+ * A rank is a base-36 fraction ({@code 0-9a-z}, compared byte-wise, never ending in {@code 0}), so a key
+ * strictly between any two neighbours always exists and moving a card rewrites only that card.
+ * Appends and prepends step the last digit of a (at least {@value #STEP_WIDTH}-digit) key, so they keep
+ * keys short. Repeated inserts at the same spot in the middle grow keys by about one character per
+ * five inserts; {@link #REBALANCE_LENGTH} is the length at which the background rebalancer rewrites
+ * a column with {@link #spaced}.
+ */
+public final class TaskRank {
+
+    public static final int REBALANCE_LENGTH = 32;
+
+    private static final int STEP_WIDTH = 4;
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    private TaskRank() {
+    }
+
+    /**
+     * Returns a key strictly between {@code before} and {@code after}; either may be {@code null}
+     * for the start or end of the column.
+     */
+    public static String between(String before, String after) {
+        String lo = before == null ? "" : before;
+        validate(lo);
+        if (after != null) {
+            validate(after);
+            if (lo.compareTo(after) >= 0) {
+                throw new IllegalArgumentException("Rank " + lo + " is not before " + after + ".");
+            }
+        }
+        if (after == null && !lo.isEmpty()) {
+            String next = step(lo, 1);
+            if (next != null) {
+                return next;
+            }
+        }
+        if (lo.isEmpty() && after != null) {
+            String previous = step(after, -1);
+            if (previous != null) {
+                return previous;
+            }
+        }
+        return midpoint(lo, after);
+    }
+
+    /**
+     * Returns the {@code index}-th of {@code count} evenly spaced keys, using the shortest width that
+     * leaves room for several inserts between neighbours.
+     */
+    public static String spaced(long index, long count) {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Rank index out of range.");
+        }
+        int width = 1;
+        long space = BASE;
+        while (space / (count + 1) < 8 && width < 12) {
+            space *= BASE;
+            width++;
+        }
+        long value = (index + 1) * (space / (count + 1));
+
+        char[] chars = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            chars[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        int length = width;
+        while (chars[length - 1] == '0') {
+            length--;
+        }
+        return new String(chars, 0, length);
+    }
+
+    private static String midpoint(String lo, String hi) {
+        if (hi != null) {
+            int common = 0;
+            while (common < hi.length() && digitAt(lo, common) == hi.charAt(common)) {
+                common++;
+            }
+            if (common > 0) {
+                return hi.substring(0, common) + midpoint(
+                        common < lo.length() ? lo.substring(common) : "",
+                        hi.substring(common)
+                );
+            }
+        }
+
+        int loDigit = lo.isEmpty() ? 0 : DIGITS.indexOf(lo.charAt(0));
+        int hiDigit = hi == null ? BASE : DIGITS.indexOf(hi.charAt(0));
+        if (hiDigit - loDigit > 1) {
+            return String.valueOf(DIGITS.charAt((loDigit + hiDigit + 1) / 2));
+        }
+        if (hi != null && hi.length() > 1) {
+            return hi.substring(0, 1);
+        }
+        return DIGITS.charAt(loDigit) + midpoint(lo.isEmpty() ? "" : lo.substring(1), null);
+    }
+
+    /**
+     * Adds {@code delta} (+1 or -1) to the last digit of {@code rank} read as a fixed-width number;
+     * returns {@code null} when the width overflows or the result would be empty.
+     */
+    private static String step(String rank, int delta) {
+        int width = Math.max(rank.length(), STEP_WIDTH);
+        int[] digits = new int[width];
+        for (int i = 0; i < rank.length(); i++) {
+            digits[i] = DIGITS.indexOf(rank.charAt(i));
+        }
+
+        int carry = delta;
+        for (int i = width - 1; i >= 0 && carry != 0; i--) {
+            int value = digits[i] + carry;
+            carry = value < 0 ? -1 : value / BASE;
+            digits[i] = Math.floorMod(value, BASE);
+        }
+        if (carry != 0) {
+            return null;
+        }
+
+        int length = width;
+        while (length > 0 && digits[length - 1] == 0) {
+            length--;
+        }
+        if (length == 0) {
+            return null;
+        }
+        StringBuilder out = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            out.append(DIGITS.charAt(digits[i]));
+        }
+        return out.toString();
+    }
+
+    private static char digitAt(String value, int index) {
+        return index < value.length() ? value.charAt(index) : '0';
+    }
+
+    private static void validate(String rank) {
+        for (int i = 0; i < rank.length(); i++) {
+            if (DIGITS.indexOf(rank.charAt(i)) < 0) {
+                throw new IllegalArgumentException("Invalid rank: " + rank);
+            }
+        }
+        if (!rank.isEmpty() && rank.charAt(rank.length() - 1) == '0') {
+            throw new IllegalArgumentException("Invalid rank: " + rank);
+        }
+    }
+}
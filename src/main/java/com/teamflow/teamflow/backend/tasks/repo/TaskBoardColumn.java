@@ -0,0 +1,18 @@
+package com.teamflow.teamflow.backend.tasks.repo;
+
+import com.teamflow.teamflow.backend.tasks.domain.TaskStatus;
+
+import java.util.List;
+
+/**
+ * One board column: the first tasks of a status plus the total number of tasks in that status.
+ */
+public record TaskBoardColumn(
+        TaskStatus status,
+        long total,
+        List<TaskView> tasks
+) {
+    public static TaskBoardColumn empty(TaskStatus status) {
+        return new TaskBoardColumn(status, 0, List.of());
+    }
+}
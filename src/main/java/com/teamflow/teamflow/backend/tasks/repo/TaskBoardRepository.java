@@ -0,0 +1,22 @@
+package com.teamflow.teamflow.backend.tasks.repo;
+
+import com.teamflow.teamflow.backend.tasks.domain.TaskStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TaskBoardRepository {
+
+    /**
+     * Returns one column per {@link com.teamflow.teamflow.backend.tasks.domain.TaskStatus}, in enum order,
+     * each holding at most {@code perColumnLimit} tasks. Executed as a single statement.
+     */
+    List<TaskBoardColumn> findBoard(UUID projectId, int perColumnLimit);
+
+    /**
+     * Rewrites the column's ranks with evenly spaced keys, keeping the current order. Only {@code rank}
+     * is written: {@code updated_at} stays as is, so a rebalance does not show up in delta sync.
+     * The caller must hold the project's rank lock.
+     */
+    int respaceColumn(UUID projectId, TaskStatus status);
+}
@@ -0,0 +1,97 @@
+package com.teamflow.teamflow.backend.tasks.repo;
+
+import com.teamflow.teamflow.backend.tasks.domain.TaskRank;
+import com.teamflow.teamflow.backend.tasks.domain.TaskStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+class TaskBoardRepositoryImpl implements TaskBoardRepository {
+
+    // Partitions are read in idx_tasks_project_status_rank order; totals come from the same window pass.
+    private static final String BOARD_SQL = """
+            select id, project_id, title, description, status, assignee_user_id,
+                   created_by, created_at, updated_at, column_total
+            from (
+                select t.*,
+                       row_number() over (partition by t.status order by t.rank, t.id) as column_position,
+                       count(*) over (partition by t.status) as column_total
+                from tasks t
+                where t.project_id = :projectId
+            ) ranked
+            where column_position <= :perColumnLimit
+            order by status, column_position
+            """;
+
+    private static final String COLUMN_IDS_SQL = """
+            select id from tasks
+            where project_id = :projectId and status = :status
+            order by rank, id
+            """;
+
+    private static final String UPDATE_RANK_SQL = "update tasks set rank = :rank where id = :id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    TaskBoardRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<TaskBoardColumn> findBoard(UUID projectId, int perColumnLimit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("perColumnLimit", perColumnLimit);
+
+        Map<TaskStatus, Long> totals = new EnumMap<>(TaskStatus.class);
+        Map<TaskStatus, List<TaskView>> tasks = new EnumMap<>(TaskStatus.class);
+
+        jdbcTemplate.query(BOARD_SQL, params, rs -> {
+            TaskStatus status = TaskStatus.valueOf(rs.getString("status"));
+            totals.put(status, rs.getLong("column_total"));
+            tasks.computeIfAbsent(status, s -> new ArrayList<>()).add(new TaskView(
+                    rs.getObject("id", UUID.class),
+                    rs.getObject("project_id", UUID.class),
+                    rs.getString("title"),
+                    rs.getString("description"),
+                    status,
+                    rs.getObject("assignee_user_id", UUID.class),
+                    rs.getObject("created_by", UUID.class),
+                    rs.getObject("created_at", LocalDateTime.class),
+                    rs.getObject("updated_at", LocalDateTime.class)
+            ));
+        });
+
+        List<TaskBoardColumn> columns = new ArrayList<>(TaskStatus.values().length);
+        for (TaskStatus status : TaskStatus.values()) {
+            List<TaskView> columnTasks = tasks.get(status);
+            columns.add(columnTasks == null
+                    ? TaskBoardColumn.empty(status)
+                    : new TaskBoardColumn(status, totals.get(status), List.copyOf(columnTasks)));
+        }
+        return columns;
+    }
+
+    @Override
+    public int respaceColumn(UUID projectId, TaskStatus status) {
+        List<UUID> ids = jdbcTemplate.queryForList(COLUMN_IDS_SQL, new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("status", status.name()), UUID.class);
+
+        SqlParameterSource[] updates = new SqlParameterSource[ids.size()];
+        for (int i = 0; i < ids.size(); i++) {
+            updates[i] = new MapSqlParameterSource()
+                    .addValue("id", ids.get(i))
+                    .addValue("rank", TaskRank.spaced(i, ids.size()));
+        }
+        jdbcTemplate.batchUpdate(UPDATE_RANK_SQL, updates);
+        return ids.size();
+    }
+}
@@ -0,0 +1,7 @@
+package com.teamflow.teamflow.backend.tasks.repo;
+
+import com.teamflow.teamflow.backend.tasks.domain.TaskStatus;
+
+import java.util.UUID;
+
+public record TaskColumnKey(UUID projectId, TaskStatus status) {}
@@ -1,19 +1,156 @@
 package com.teamflow.teamflow.backend.tasks.repo;
 
 import com.teamflow.teamflow.backend.tasks.domain.Task;
+import com.teamflow.teamflow.backend.tasks.domain.TaskRank;
 import com.teamflow.teamflow.backend.tasks.domain.TaskStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+/**
+ * List and get views take a {@code withDescription} flag: when it is false the description is never
+ * read, so large descriptions are not fetched from TOAST for board-style clients.
+ */
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskBoardRepository {
 
-    Page<Task> findAllByProjectId(UUID projectId, Pageable pageable);
+    @Query(value = """
+            select new com.teamflow.teamflow.backend.tasks.repo.TaskView(
+                t.id, t.projectId, t.title,
+                case when :withDescription = true then t.description else null end,
+                t.status, t.assigneeUserId, t.createdBy, t.createdAt, t.updatedAt)
+            from Task t
+            where t.projectId = :projectId
+            order by t.status, t.rank, t.id
+            """,
+            countQuery = "select count(t) from Task t where t.projectId = :projectId")
+    Page<TaskView> findViewsByProjectId(
+            @Param("projectId") UUID projectId,
+            @Param("withDescription") boolean withDescription,
+            Pageable pageable
+    );
 
-    Page<Task> findAllByProjectIdAndStatus(UUID projectId, TaskStatus status, Pageable pageable);
+    @Query(value = """
+            select new com.teamflow.teamflow.backend.tasks.repo.TaskView(
+                t.id, t.projectId, t.title,
+                case when :withDescription = true then t.description else null end,
+                t.status, t.assigneeUserId, t.createdBy, t.createdAt, t.updatedAt)
+            from Task t
+            where t.projectId = :projectId and t.status = :status
+            order by t.rank, t.id
+            """,
+            countQuery = "select count(t) from Task t where t.projectId = :projectId and t.status = :status")
+    Page<TaskView> findViewsByProjectIdAndStatus(
+            @Param("projectId") UUID projectId,
+            @Param("status") TaskStatus status,
+            @Param("withDescription") boolean withDescription,
+            Pageable pageable
+    );
 
-    Optional<Task> findByIdAndProjectId(UUID id, UUID projectId);
+    Optional<Task> findByIdAndProjectIdAndWorkspaceId(UUID id, UUID projectId, UUID workspaceId);
+
+    @Query("""
+            select new com.teamflow.teamflow.backend.tasks.repo.TaskView(
+                t.id, t.projectId, t.title,
+                case when :withDescription = true then t.description else null end,
+                t.status, t.assigneeUserId, t.createdBy, t.createdAt, t.updatedAt)
+            from Task t
+            where t.id = :id and t.projectId = :projectId and t.workspaceId = :workspaceId
+            """)
+    Optional<TaskView> findViewByIdAndProjectIdAndWorkspaceId(
+            @Param("id") UUID id,
+            @Param("projectId") UUID projectId,
+            @Param("workspaceId") UUID workspaceId,
+            @Param("withDescription") boolean withDescription
+    );
+
+    /**
+     * Tasks with the given ids in the workspace; ids from other workspaces are simply not returned.
+     */
+    @Query("""
+            select new com.teamflow.teamflow.backend.tasks.repo.TaskView(
+                t.id, t.projectId, t.title, t.description, t.status,
+                t.assigneeUserId, t.createdBy, t.createdAt, t.updatedAt)
+            from Task t
+            where t.workspaceId = :workspaceId and t.id in :ids
+            """)
+    List<TaskView> findViewsByIdInWorkspace(
+            @Param("workspaceId") UUID workspaceId,
+            @Param("ids") Collection<UUID> ids
+    );
+
+    /**
+     * Tasks of the workspace changed after the {@code (afterAt, afterId)} keyset and no later than {@code upTo},
+     * in {@code (updatedAt, id)} order; used by delta sync.
+     */
+    @Query("""
+            select new com.teamflow.teamflow.backend.tasks.repo.TaskView(
+                t.id, t.projectId, t.title, t.description, t.status,
+                t.assigneeUserId, t.createdBy, t.createdAt, t.updatedAt)
+            from Task t
+            where t.workspaceId = :workspaceId
+              and t.updatedAt <= :upTo
+              and (t.updatedAt > :afterAt or (t.updatedAt = :afterAt and t.id > :afterId))
+            order by t.updatedAt, t.id
+            """)
+    List<TaskView> findChangedViews(
+            @Param("workspaceId") UUID workspaceId,
+            @Param("afterAt") LocalDateTime afterAt,
+            @Param("afterId") UUID afterId,
+            @Param("upTo") LocalDateTime upTo,
+            Limit limit
+    );
+
+    @Query("select max(t.rank) from Task t where t.projectId = :projectId and t.status = :status")
+    Optional<String> findLastRank(@Param("projectId") UUID projectId, @Param("status") TaskStatus status);
+
+    /**
+     * Rank of the first card below {@code rank} in the column, ignoring {@code excludedId} (the card being moved).
+     */
+    @Query("""
+            select min(t.rank) from Task t
+            where t.projectId = :projectId and t.status = :status and t.rank > :rank and t.id <> :excludedId
+            """)
+    Optional<String> findNextRank(
+            @Param("projectId") UUID projectId,
+            @Param("status") TaskStatus status,
+            @Param("rank") String rank,
+            @Param("excludedId") UUID excludedId
+    );
+
+    /**
+     * Rank of the last card above {@code rank} in the column, ignoring {@code excludedId} (the card being moved).
+     */
+    @Query("""
+            select max(t.rank) from Task t
+            where t.projectId = :projectId and t.status = :status and t.rank < :rank and t.id <> :excludedId
+            """)
+    Optional<String> findPreviousRank(
+            @Param("projectId") UUID projectId,
+            @Param("status") TaskStatus status,
+            @Param("rank") String rank,
+            @Param("excludedId") UUID excludedId
+    );
+
+    /**
+     * Loads a drop-target neighbour with a share lock so a concurrent rebalance cannot rewrite its rank
+     * while the moved task is placed next to it.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select t from Task t where t.id = :id and t.projectId = :projectId")
+    Optional<Task> findNeighbour(@Param("id") UUID id, @Param("projectId") UUID projectId);
+
+    @Query("select distinct new com.teamflow.teamflow.backend.tasks.repo.TaskColumnKey(t.projectId, t.status) "
+            + "from Task t where length(t.rank) > " + TaskRank.REBALANCE_LENGTH)
+    List<TaskColumnKey> findColumnsToRebalance(Limit limit);
 }
@@ -0,0 +1,18 @@
+package com.teamflow.teamflow.backend.tasks.repo;
+
+import com.teamflow.teamflow.backend.tasks.domain.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record TaskView(
+        UUID id,
+        UUID projectId,
+        String title,
+        String description,
+        TaskStatus status,
+        UUID assigneeUserId,
+        UUID createdBy,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {}
@@ -0,0 +1,61 @@
+package com.teamflow.teamflow.backend.tasks.service;
+
+import com.teamflow.teamflow.backend.projects.repo.ProjectRepository;
+import com.teamflow.teamflow.backend.tasks.domain.TaskRank;
+import com.teamflow.teamflow.backend.tasks.repo.TaskColumnKey;
+import com.teamflow.teamflow.backend.tasks.repo.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Rewrites the ranks of board columns whose keys have grown past {@link TaskRank#REBALANCE_LENGTH}
+ * with short, evenly spaced keys. Each column is rewritten in its own
+ * transaction under the project's rank lock, so concurrent moves either wait for it or see the new keys.
+ */
+@Component
+public class TaskRankRebalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskRankRebalancer.class);
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public TaskRankRebalancer(
+            TaskRepository taskRepository,
+            ProjectRepository projectRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${teamflow.tasks.rank-rebalance.batch-size:100}") int batchSize
+    ) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${teamflow.tasks.rank-rebalance.interval-ms:300000}",
+            fixedDelayString = "${teamflow.tasks.rank-rebalance.interval-ms:300000}"
+    )
+    public void rebalance() {
+        List<TaskColumnKey> columns = taskRepository.findColumnsToRebalance(Limit.of(batchSize));
+        for (TaskColumnKey column : columns) {
+            int rewritten = transactionTemplate.execute(status -> rebalance(column));
+            log.info("Rebalanced {} task ranks in project {} column {}", rewritten, column.projectId(), column.status());
+        }
+    }
+
+    private int rebalance(TaskColumnKey column) {
+        projectRepository.lockById(column.projectId());
+        return taskRepository.respaceColumn(column.projectId(), column.status());
+    }
+}
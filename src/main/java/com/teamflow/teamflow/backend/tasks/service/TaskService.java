@@ -1,18 +1,27 @@
 package com.teamflow.teamflow.backend.tasks.service;
 
 import com.teamflow.teamflow.backend.common.errors.BadRequestException;
+import com.teamflow.teamflow.backend.common.errors.ConflictException;
 import com.teamflow.teamflow.backend.common.errors.NotFoundException;
+import com.teamflow.teamflow.backend.common.events.WorkspaceChangedEvent;
 import com.teamflow.teamflow.backend.common.security.CurrentUserProvider;
 import com.teamflow.teamflow.backend.projects.repo.ProjectRepository;
 import com.teamflow.teamflow.backend.tasks.domain.Task;
+import com.teamflow.teamflow.backend.tasks.domain.TaskRank;
 import com.teamflow.teamflow.backend.tasks.domain.TaskStatus;
+import com.teamflow.teamflow.backend.tasks.repo.TaskBoardColumn;
 import com.teamflow.teamflow.backend.tasks.repo.TaskRepository;
+import com.teamflow.teamflow.backend.tasks.repo.TaskView;
 import com.teamflow.teamflow.backend.workspaces.repo.WorkspaceMemberRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -22,17 +31,20 @@ public class TaskService {
     private final ProjectRepository projectRepository;
     private final WorkspaceMemberRepository workspaceMemberRepository;
     private final CurrentUserProvider currentUserProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TaskService(
             TaskRepository taskRepository,
             ProjectRepository projectRepository,
             WorkspaceMemberRepository workspaceMemberRepository,
-            CurrentUserProvider currentUserProvider
+            CurrentUserProvider currentUserProvider,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.taskRepository = taskRepository;
         this.projectRepository = projectRepository;
         this.workspaceMemberRepository = workspaceMemberRepository;
         this.currentUserProvider = currentUserProvider;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -41,42 +53,78 @@ public class TaskService {
         requireMember(workspaceId, userId);
         requireProjectInWorkspace(workspaceId, projectId);
 
-        Task task = new Task(projectId, title, description, userId);
-        return taskRepository.save(task);
+        Task task = new Task(workspaceId, projectId, title, description, userId);
+        lockRanks(projectId);
+        task.moveTo(TaskStatus.TODO, endOfColumn(projectId, TaskStatus.TODO));
+        Task saved = taskRepository.save(task);
+        publishChange(workspaceId);
+        return saved;
     }
 
     @Transactional(readOnly = true)
-    public Page<Task> list(UUID workspaceId, UUID projectId, TaskStatus status, Pageable pageable) {
+    public Page<TaskView> list(
+            UUID workspaceId,
+            UUID projectId,
+            TaskStatus status,
+            boolean withDescription,
+            Pageable pageable
+    ) {
         UUID userId = currentUserProvider.getCurrentUserId();
         requireMember(workspaceId, userId);
         requireProjectInWorkspace(workspaceId, projectId);
 
         if (status == null) {
-            return taskRepository.findAllByProjectId(projectId, pageable);
+            return taskRepository.findViewsByProjectId(projectId, withDescription, pageable);
         }
-        return taskRepository.findAllByProjectIdAndStatus(projectId, status, pageable);
+        return taskRepository.findViewsByProjectIdAndStatus(projectId, status, withDescription, pageable);
     }
 
     @Transactional(readOnly = true)
-    public Task getById(UUID workspaceId, UUID projectId, UUID taskId) {
+    public List<TaskBoardColumn> board(UUID workspaceId, UUID projectId, int perColumnLimit) {
         UUID userId = currentUserProvider.getCurrentUserId();
         requireMember(workspaceId, userId);
         requireProjectInWorkspace(workspaceId, projectId);
 
-        return taskRepository.findByIdAndProjectId(taskId, projectId)
-                .orElseThrow(() -> new NotFoundException("Task not found."));
+        return taskRepository.findBoard(projectId, perColumnLimit);
+    }
+
+    @Transactional(readOnly = true)
+    public Task getById(UUID workspaceId, UUID projectId, UUID taskId) {
+        UUID userId = currentUserProvider.getCurrentUserId();
+        requireMember(workspaceId, userId);
+
+        return requireTask(workspaceId, projectId, taskId);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskView getView(UUID workspaceId, UUID projectId, UUID taskId, boolean withDescription) {
+        UUID userId = currentUserProvider.getCurrentUserId();
+        requireMember(workspaceId, userId);
+
+        return taskRepository.findViewByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId, withDescription)
+                .orElseThrow(() -> taskNotFound(workspaceId, projectId));
+    }
+
+    /**
+     * Tasks of any project in the workspace, fetched in one query after a single membership check.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskView> getByIds(UUID workspaceId, Collection<UUID> taskIds) {
+        UUID userId = currentUserProvider.getCurrentUserId();
+        requireMember(workspaceId, userId);
+
+        return taskRepository.findViewsByIdInWorkspace(workspaceId, Set.copyOf(taskIds));
     }
 
     @Transactional
     public Task update(UUID workspaceId, UUID projectId, UUID taskId, String title, String description) {
         UUID userId = currentUserProvider.getCurrentUserId();
         requireMember(workspaceId, userId);
-        requireProjectInWorkspace(workspaceId, projectId);
 
-        Task task = taskRepository.findByIdAndProjectId(taskId, projectId)
-                .orElseThrow(() -> new NotFoundException("Task not found."));
+        Task task = requireTask(workspaceId, projectId, taskId);
 
         task.updateDetails(title, description);
+        publishChange(workspaceId);
         return task;
     }
 
@@ -88,12 +136,54 @@ public class TaskService {
 
         UUID userId = currentUserProvider.getCurrentUserId();
         requireMember(workspaceId, userId);
-        requireProjectInWorkspace(workspaceId, projectId);
 
-        Task task = taskRepository.findByIdAndProjectId(taskId, projectId)
-                .orElseThrow(() -> new NotFoundException("Task not found."));
+        Task task = requireTask(workspaceId, projectId, taskId);
+
+        if (task.getStatus() != newStatus) {
+            lockRanks(projectId);
+            task.moveTo(newStatus, endOfColumn(projectId, newStatus));
+            publishChange(workspaceId);
+        }
+        return task;
+    }
+
+    @Transactional
+    public Task move(
+            UUID workspaceId,
+            UUID projectId,
+            UUID taskId,
+            TaskStatus targetStatus,
+            UUID afterTaskId,
+            UUID beforeTaskId
+    ) {
+        UUID userId = currentUserProvider.getCurrentUserId();
+        requireMember(workspaceId, userId);
+
+        Task task = requireTask(workspaceId, projectId, taskId);
+
+        lockRanks(projectId);
+
+        TaskStatus status = targetStatus == null ? task.getStatus() : targetStatus;
+        String lower = afterTaskId == null ? null : neighbourRank(projectId, taskId, afterTaskId, status);
+        String upper = beforeTaskId == null ? null : neighbourRank(projectId, taskId, beforeTaskId, status);
 
-        task.changeStatus(newStatus);
+        if (afterTaskId == null && beforeTaskId == null) {
+            task.moveTo(status, endOfColumn(projectId, status));
+            publishChange(workspaceId);
+            return task;
+        }
+        // With one neighbour given, the other bound is the card currently next to it, which the client may not know.
+        if (upper == null) {
+            upper = taskRepository.findNextRank(projectId, status, lower, taskId).orElse(null);
+        } else if (lower == null) {
+            lower = taskRepository.findPreviousRank(projectId, status, upper, taskId).orElse(null);
+        }
+        if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+            throw new ConflictException("Board order has changed; reload and retry.");
+        }
+
+        task.moveTo(status, TaskRank.between(lower, upper));
+        publishChange(workspaceId);
         return task;
     }
 
@@ -105,16 +195,15 @@ public class TaskService {
 
         UUID userId = currentUserProvider.getCurrentUserId();
         requireMember(workspaceId, userId);
-        requireProjectInWorkspace(workspaceId, projectId);
 
         if (!workspaceMemberRepository.existsByIdWorkspaceIdAndIdUserId(workspaceId, assigneeUserId)) {
             throw new BadRequestException("Assignee must be a workspace member.");
         }
 
-        Task task = taskRepository.findByIdAndProjectId(taskId, projectId)
-                .orElseThrow(() -> new NotFoundException("Task not found."));
+        Task task = requireTask(workspaceId, projectId, taskId);
 
         task.assignTo(assigneeUserId);
+        publishChange(workspaceId);
         return task;
     }
 
@@ -122,20 +211,57 @@ public class TaskService {
     public Task unassign(UUID workspaceId, UUID projectId, UUID taskId) {
         UUID userId = currentUserProvider.getCurrentUserId();
         requireMember(workspaceId, userId);
-        requireProjectInWorkspace(workspaceId, projectId);
 
-        Task task = taskRepository.findByIdAndProjectId(taskId, projectId)
-                .orElseThrow(() -> new NotFoundException("Task not found."));
+        Task task = requireTask(workspaceId, projectId, taskId);
 
         task.unassign();
+        publishChange(workspaceId);
         return task;
     }
 
+    private void publishChange(UUID workspaceId) {
+        eventPublisher.publishEvent(new WorkspaceChangedEvent(workspaceId));
+    }
+
+    private void lockRanks(UUID projectId) {
+        projectRepository.lockById(projectId);
+    }
+
+    private String endOfColumn(UUID projectId, TaskStatus status) {
+        return TaskRank.between(taskRepository.findLastRank(projectId, status).orElse(null), null);
+    }
+
+    private String neighbourRank(UUID projectId, UUID taskId, UUID neighbourId, TaskStatus status) {
+        if (neighbourId.equals(taskId)) {
+            throw new BadRequestException("A task cannot be placed next to itself.");
+        }
+        Task neighbour = taskRepository.findNeighbour(neighbourId, projectId)
+                .orElseThrow(() -> new BadRequestException("Neighbouring task not found."));
+        if (neighbour.getStatus() != status) {
+            throw new BadRequestException("Neighbouring task is in a different column.");
+        }
+        return neighbour.getRank();
+    }
+
     private void requireMember(UUID workspaceId, UUID userId) {
         workspaceMemberRepository.findRole(workspaceId, userId)
                 .orElseThrow(() -> new NotFoundException("Workspace not found."));
     }
 
+    /**
+     * Loads the task scoped by id, project and workspace in one indexed lookup; the project is only checked
+     * on a miss, to report a missing project rather than a missing task.
+     */
+    private Task requireTask(UUID workspaceId, UUID projectId, UUID taskId) {
+        return taskRepository.findByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId)
+                .orElseThrow(() -> taskNotFound(workspaceId, projectId));
+    }
+
+    private NotFoundException taskNotFound(UUID workspaceId, UUID projectId) {
+        requireProjectInWorkspace(workspaceId, projectId);
+        return new NotFoundException("Task not found.");
+    }
+
     private void requireProjectInWorkspace(UUID workspaceId, UUID projectId) {
         if (projectRepository.findByIdAndWorkspaceId(projectId, workspaceId).isEmpty()) {
             throw new NotFoundException("Project not found.");
@@ -0,0 +1,174 @@
+package com.teamflow.teamflow.backend.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamflow.teamflow.backend.auth.security.JwtService;
+import com.teamflow.teamflow.backend.common.api.PageResponse;
+import com.teamflow.teamflow.backend.common.api.PageResponses;
+import com.teamflow.teamflow.backend.projects.api.ProjectResponse;
+import com.teamflow.teamflow.backend.projects.api.ProjectSorts;
+import com.teamflow.teamflow.backend.projects.api.mapper.ProjectMapper;
+import com.teamflow.teamflow.backend.projects.domain.ProjectStatus;
+import com.teamflow.teamflow.backend.projects.repo.ProjectRepository;
+import com.teamflow.teamflow.backend.projects.repo.ProjectView;
+import com.teamflow.teamflow.backend.tasks.api.CreateTaskRequest;
+import com.teamflow.teamflow.backend.tasks.api.TaskResponse;
+import com.teamflow.teamflow.backend.tasks.api.mapper.TaskMapper;
+import com.teamflow.teamflow.backend.tasks.domain.TaskStatus;
+import com.teamflow.teamflow.backend.tasks.repo.TaskRepository;
+import com.teamflow.teamflow.backend.tasks.repo.TaskView;
+import com.teamflow.teamflow.backend.users.domain.UserRole;
+import com.teamflow.teamflow.backend.workspaces.repo.WorkspaceMemberRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Runs synthetic calls through the request hot paths (JWT sign/verify, MapStruct mapping, Jackson writers,
+ * read-only repository queries) before the application reports ready. Boot only moves readiness to
+ * {@code ACCEPTING_TRAFFIC} after all runners have returned, so the probe stays down until warmup ends.
+ * <p>
+ * Stops after {@code teamflow.warmup.iterations} rounds or {@code teamflow.warmup.max-duration-ms}, whichever
+ * comes first. A failing step is logged and dropped; warmup never fails startup.
+ */
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+    @FunctionalInterface
+    interface Action {
+        void run() throws Exception;
+    }
+
+    record Step(String name, Action action) {}
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+    // Matches no rows: queries go through parsing, plan caches and JDBC without touching real data.
+    private static final UUID WARMUP_ID = new UUID(0L, 0L);
+
+    private static final Type TASK_PAGE_TYPE =
+            ResolvableType.forClassWithGenerics(PageResponse.class, TaskResponse.class).getType();
+    private static final Type PROJECT_PAGE_TYPE =
+            ResolvableType.forClassWithGenerics(PageResponse.class, ProjectResponse.class).getType();
+
+    private final List<Step> steps;
+    private final boolean enabled;
+    private final int iterations;
+    private final Duration maxDuration;
+
+    @Autowired
+    public WarmupRunner(
+            JwtService jwtService,
+            TaskMapper taskMapper,
+            ProjectMapper projectMapper,
+            MappingJackson2HttpMessageConverter jsonConverter,
+            ObjectMapper objectMapper,
+            TaskRepository taskRepository,
+            ProjectRepository projectRepository,
+            WorkspaceMemberRepository memberRepository,
+            @Value("${teamflow.warmup.enabled:true}") boolean enabled,
+            @Value("${teamflow.warmup.iterations:500}") int iterations,
+            @Value("${teamflow.warmup.max-duration-ms:15000}") long maxDurationMs
+    ) {
+        this(List.of(
+                new Step("jwt", () -> jwtService.parseAndValidate(
+                        jwtService.generateAccessToken(WARMUP_ID, "warmup@teamflow.local", UserRole.USER.name()))),
+                new Step("json", () -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    TaskView task = new TaskView(WARMUP_ID, WARMUP_ID, "warmup", "warmup", TaskStatus.TODO,
+                            WARMUP_ID, WARMUP_ID, now, now);
+                    ProjectView project = new ProjectView(WARMUP_ID, WARMUP_ID, "warmup", ProjectStatus.ACTIVE,
+                            WARMUP_ID, now, now);
+                    PageRequest page = PageRequest.of(0, 20);
+                    jsonConverter.write(
+                            PageResponses.of(new PageImpl<>(List.of(task, task), page, 2), taskMapper::toResponse),
+                            TASK_PAGE_TYPE, MediaType.APPLICATION_JSON, new DiscardingOutputMessage());
+                    jsonConverter.write(
+                            PageResponses.of(new PageImpl<>(List.of(project), page, 1), projectMapper::toResponse),
+                            PROJECT_PAGE_TYPE, MediaType.APPLICATION_JSON, new DiscardingOutputMessage());
+                    objectMapper.readValue("{\"title\":\"warmup\",\"description\":\"warmup\"}",
+                            CreateTaskRequest.class);
+                }),
+                new Step("queries", () -> {
+                    PageRequest page = PageRequest.of(0, 20);
+                    memberRepository.findRole(WARMUP_ID, WARMUP_ID);
+                    taskRepository.findViewsByProjectId(WARMUP_ID, true, page);
+                    taskRepository.findViewsByProjectIdAndStatus(WARMUP_ID, TaskStatus.TODO, false, page);
+                    taskRepository.findViewByIdAndProjectIdAndWorkspaceId(WARMUP_ID, WARMUP_ID, WARMUP_ID, true);
+                    taskRepository.findBoard(WARMUP_ID, 20);
+                    projectRepository.search(WARMUP_ID, ProjectStatus.ACTIVE, "",
+                            PageRequest.of(0, 20, ProjectSorts.parse(null)));
+                })
+        ), enabled, iterations, Duration.ofMillis(maxDurationMs));
+    }
+
+    WarmupRunner(List<Step> steps, boolean enabled, int iterations, Duration maxDuration) {
+        this.steps = steps;
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.maxDuration = maxDuration;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + maxDuration.toNanos();
+        List<Step> active = new ArrayList<>(steps);
+
+        int round = 0;
+        while (round < iterations && !active.isEmpty() && System.nanoTime() - deadline < 0) {
+            Iterator<Step> it = active.iterator();
+            while (it.hasNext()) {
+                Step step = it.next();
+                try {
+                    step.action().run();
+                } catch (Exception e) {
+                    log.warn("Warmup step '{}' failed, skipping it", step.name(), e);
+                    it.remove();
+                }
+            }
+            round++;
+        }
+
+        log.info("Warmup finished {} of {} rounds in {} ms", round, iterations,
+                Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    private static final class DiscardingOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+
+        @Override
+        public OutputStream getBody() {
+            return OutputStream.nullOutputStream();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
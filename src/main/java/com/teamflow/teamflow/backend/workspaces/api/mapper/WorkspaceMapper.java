@@ -2,9 +2,12 @@ package com.teamflow.teamflow.backend.workspaces.api.mapper;
 
 import com.teamflow.teamflow.backend.workspaces.api.WorkspaceResponse;
 import com.teamflow.teamflow.backend.workspaces.domain.Workspace;
+import com.teamflow.teamflow.backend.workspaces.repo.WorkspaceView;
 import org.mapstruct.Mapper;
 
 @Mapper(componentModel = "spring")
 public interface WorkspaceMapper {
     WorkspaceResponse toResponse(Workspace workspace);
+
+    WorkspaceResponse toResponse(WorkspaceView view);
 }
@@ -1,10 +1,14 @@
 package com.teamflow.teamflow.backend.workspaces.domain;
 
+import com.teamflow.teamflow.backend.common.cache.CacheRegions;
 import com.teamflow.teamflow.backend.common.errors.ConflictException;
+import com.teamflow.teamflow.backend.common.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -13,10 +17,12 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Table(name = "workspaces")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.WORKSPACES)
 public class Workspace {
 
     @Id
-    @GeneratedValue
+    @UuidV7
     @Column(nullable = false, updatable = false)
     private UUID id;
 
@@ -1,5 +1,6 @@
 package com.teamflow.teamflow.backend.workspaces.domain;
 
+import com.teamflow.teamflow.backend.common.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -15,7 +16,7 @@ import java.util.UUID;
 public class WorkspaceInvite {
 
     @Id
-    @GeneratedValue
+    @UuidV7
     @Column(nullable = false, updatable = false)
     private UUID id;
 
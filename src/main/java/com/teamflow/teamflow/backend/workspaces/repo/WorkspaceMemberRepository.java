@@ -1,11 +1,15 @@
 package com.teamflow.teamflow.backend.workspaces.repo;
 
+import com.teamflow.teamflow.backend.common.cache.CacheRegions;
 import com.teamflow.teamflow.backend.workspaces.domain.WorkspaceMember;
 import com.teamflow.teamflow.backend.workspaces.domain.WorkspaceMemberId;
 import com.teamflow.teamflow.backend.workspaces.domain.WorkspaceMemberRole;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
@@ -20,6 +24,10 @@ public interface WorkspaceMemberRepository extends JpaRepository<WorkspaceMember
         select wm.role from WorkspaceMember wm
         where wm.id.workspaceId = :workspaceId and wm.id.userId = :userId
         """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.WORKSPACE_MEMBER_ROLES)
+    })
     Optional<WorkspaceMemberRole> findRole(UUID workspaceId, UUID userId);
 
     long countByIdWorkspaceIdAndRole(UUID workspaceId, WorkspaceMemberRole role);
@@ -1,11 +1,15 @@
 package com.teamflow.teamflow.backend.workspaces.repo;
 
+import com.teamflow.teamflow.backend.common.cache.CacheRegions;
 import com.teamflow.teamflow.backend.workspaces.domain.Workspace;
 import com.teamflow.teamflow.backend.workspaces.domain.WorkspaceStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
@@ -17,13 +21,20 @@ public interface WorkspaceRepository extends JpaRepository<Workspace, UUID> {
     boolean existsByNameAndIdNot(String name, UUID id);
     Page<Workspace> findByStatus(WorkspaceStatus status, Pageable pageable);
 
-    @Query("""
-        select w
+    @Query(value = """
+        select new com.teamflow.teamflow.backend.workspaces.repo.WorkspaceView(
+            w.id, w.name, w.createdAt, w.status, w.updatedAt)
+        from Workspace w
+        join WorkspaceMember wm on wm.id.workspaceId = w.id
+        where wm.id.userId = :userId and w.status = :status
+        """,
+        countQuery = """
+        select count(w)
         from Workspace w
         join WorkspaceMember wm on wm.id.workspaceId = w.id
         where wm.id.userId = :userId and w.status = :status
         """)
-    Page<Workspace> findAllByMemberAndStatus(
+    Page<WorkspaceView> findAllByMemberAndStatus(
             @Param("userId") UUID userId,
             @Param("status") WorkspaceStatus status,
             Pageable pageable
@@ -35,6 +46,10 @@ public interface WorkspaceRepository extends JpaRepository<Workspace, UUID> {
         join WorkspaceMember wm on wm.id.workspaceId = w.id
         where w.id = :workspaceId and wm.id.userId = :userId
         """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.WORKSPACE_MEMBER_ROLES)
+    })
     Optional<Workspace> findByIdAndMember(
             @Param("workspaceId") UUID workspaceId,
             @Param("userId") UUID userId
@@ -0,0 +1,14 @@
+package com.teamflow.teamflow.backend.workspaces.repo;
+
+import com.teamflow.teamflow.backend.workspaces.domain.WorkspaceStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record WorkspaceView(
+        UUID id,
+        String name,
+        LocalDateTime createdAt,
+        WorkspaceStatus status,
+        LocalDateTime updatedAt
+) {}
@@ -8,6 +8,7 @@ import com.teamflow.teamflow.backend.common.security.CurrentUserProvider;
 import com.teamflow.teamflow.backend.workspaces.domain.*;
 import com.teamflow.teamflow.backend.workspaces.repo.WorkspaceMemberRepository;
 import com.teamflow.teamflow.backend.workspaces.repo.WorkspaceRepository;
+import com.teamflow.teamflow.backend.workspaces.repo.WorkspaceView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
@@ -61,13 +62,13 @@ public class WorkspaceService {
     }
 
     @Transactional(readOnly = true)
-    public Page<Workspace> getWorkspaces(Pageable pageable) {
+    public Page<WorkspaceView> getWorkspaces(Pageable pageable) {
         UUID userId = currentUserProvider.getCurrentUserId();
         return workspaceRepository.findAllByMemberAndStatus(userId, WorkspaceStatus.ACTIVE, pageable);
     }
 
     @Transactional(readOnly = true)
-    public Page<Workspace> getClosedWorkspaces(Pageable pageable) {
+    public Page<WorkspaceView> getClosedWorkspaces(Pageable pageable) {
         UUID userId = currentUserProvider.getCurrentUserId();
         return workspaceRepository.findAllByMemberAndStatus(userId, WorkspaceStatus.CLOSED, pageable);
     }
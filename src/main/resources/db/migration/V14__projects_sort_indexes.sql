@@ -0,0 +1,13 @@
+-- One index per allowed sort key (ProjectSortKey), with id as tiebreaker, so sorted and
+-- keyset-paginated listings walk the index instead of sorting every matching row.
+CREATE INDEX idx_projects_workspace_status_updated_at
+    ON projects(workspace_id, status, updated_at, id);
+
+CREATE INDEX idx_projects_workspace_status_created_at
+    ON projects(workspace_id, status, created_at, id);
+
+CREATE INDEX idx_projects_workspace_status_name
+    ON projects(workspace_id, status, name, id);
+
+-- Covered by the leading columns of the indexes above.
+DROP INDEX IF EXISTS idx_projects_workspace_status;
@@ -0,0 +1,20 @@
+-- Fractional ordering key within a (project, status) column; "C" collation keeps comparison byte-wise.
+ALTER TABLE tasks ADD COLUMN rank VARCHAR(255) COLLATE "C";
+
+-- Existing tasks keep creation order: fixed-width hex keys with a trailing '1' (ranks never end in '0').
+UPDATE tasks t
+SET rank = ranked.rank
+FROM (
+    SELECT id,
+           lpad(to_hex(row_number() OVER (PARTITION BY project_id, status ORDER BY created_at, id)), 8, '0') || '1' AS rank
+    FROM tasks
+) ranked
+WHERE ranked.id = t.id;
+
+ALTER TABLE tasks ALTER COLUMN rank SET NOT NULL;
+
+CREATE INDEX idx_tasks_project_status_rank ON tasks(project_id, status, rank);
+DROP INDEX idx_tasks_project_status;
+
+-- Columns whose keys grew past TaskRank.REBALANCE_LENGTH; keeps the rebalancer's lookup off the heap.
+CREATE INDEX idx_tasks_long_rank ON tasks(project_id, status) WHERE length(rank) > 32;
@@ -0,0 +1,41 @@
+-- Delta sync reads rows changed after a watermark, per project / workspace.
+CREATE INDEX idx_tasks_project_updated ON tasks(project_id, updated_at);
+CREATE INDEX idx_projects_workspace_updated ON projects(workspace_id, updated_at);
+
+-- Physically deleted tasks and projects, so sync clients can drop their local copies.
+CREATE TABLE sync_tombstones (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    workspace_id UUID NOT NULL,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id UUID NOT NULL,
+    deleted_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_sync_tombstones_workspace_deleted ON sync_tombstones(workspace_id, deleted_at);
+
+-- clock_timestamp() rather than now(): the stamp must be as close to commit time as possible.
+CREATE FUNCTION record_project_tombstone() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO sync_tombstones (workspace_id, entity_type, entity_id, deleted_at)
+    VALUES (OLD.workspace_id, 'PROJECT', OLD.id, clock_timestamp()::timestamp);
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION record_task_tombstone() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO sync_tombstones (workspace_id, entity_type, entity_id, deleted_at)
+    SELECT p.workspace_id, 'TASK', OLD.id, clock_timestamp()::timestamp
+    FROM projects p
+    WHERE p.id = OLD.project_id;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_projects_tombstone
+    AFTER DELETE ON projects
+    FOR EACH ROW EXECUTE FUNCTION record_project_tombstone();
+
+CREATE TRIGGER trg_tasks_tombstone
+    AFTER DELETE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION record_task_tombstone();
@@ -0,0 +1,76 @@
+-- Runs outside a transaction (see .sql.conf) so the backfill can commit per batch and indexes build
+-- concurrently. Every step is safe to re-run after a failure.
+
+-- Owning workspace copied from the project, so tasks can be scoped and authorized without joining projects.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS workspace_id UUID;
+
+-- Fills workspace_id for inserts that do not set it (instances still running the previous release) and keeps
+-- it immutable once set.
+CREATE OR REPLACE FUNCTION tasks_workspace_id_guard() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        IF NEW.workspace_id IS NULL THEN
+            SELECT p.workspace_id INTO NEW.workspace_id FROM projects p WHERE p.id = NEW.project_id;
+        END IF;
+    ELSIF OLD.workspace_id IS NOT NULL AND NEW.workspace_id IS DISTINCT FROM OLD.workspace_id THEN
+        RAISE EXCEPTION 'tasks.workspace_id is immutable (task %)', OLD.id;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_tasks_workspace_id ON tasks;
+CREATE TRIGGER trg_tasks_workspace_id
+    BEFORE INSERT OR UPDATE OF workspace_id ON tasks
+    FOR EACH ROW EXECUTE FUNCTION tasks_workspace_id_guard();
+
+-- Backfill in primary key order, committing every 10k rows so locks and WAL stay bounded.
+DO $$
+DECLARE
+    last_id UUID := '00000000-0000-0000-0000-000000000000';
+    batch_end UUID;
+BEGIN
+    LOOP
+        SELECT max(id) INTO batch_end
+        FROM (SELECT id FROM tasks WHERE id > last_id ORDER BY id LIMIT 10000) batch;
+        EXIT WHEN batch_end IS NULL;
+
+        UPDATE tasks t
+        SET workspace_id = p.workspace_id
+        FROM projects p
+        WHERE t.id > last_id AND t.id <= batch_end
+          AND t.workspace_id IS NULL
+          AND p.id = t.project_id;
+
+        last_id := batch_end;
+        COMMIT;
+    END LOOP;
+END $$;
+
+-- NOT NULL via a validated CHECK: validation only takes a SHARE UPDATE EXCLUSIVE lock, and SET NOT NULL then
+-- skips its own full-table scan.
+ALTER TABLE tasks DROP CONSTRAINT IF EXISTS chk_tasks_workspace_id_not_null;
+ALTER TABLE tasks ADD CONSTRAINT chk_tasks_workspace_id_not_null CHECK (workspace_id IS NOT NULL) NOT VALID;
+ALTER TABLE tasks VALIDATE CONSTRAINT chk_tasks_workspace_id_not_null;
+ALTER TABLE tasks ALTER COLUMN workspace_id SET NOT NULL;
+ALTER TABLE tasks DROP CONSTRAINT chk_tasks_workspace_id_not_null;
+
+-- A task's workspace must be its project's workspace.
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uq_projects_id_workspace ON projects(id, workspace_id);
+
+ALTER TABLE tasks DROP CONSTRAINT IF EXISTS fk_tasks_project_workspace;
+ALTER TABLE tasks ADD CONSTRAINT fk_tasks_project_workspace
+    FOREIGN KEY (project_id, workspace_id) REFERENCES projects(id, workspace_id) NOT VALID;
+ALTER TABLE tasks VALIDATE CONSTRAINT fk_tasks_project_workspace;
+
+-- Workspace-wide delta sync reads tasks by (workspace_id, updated_at, id) without going through projects.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_workspace_updated ON tasks(workspace_id, updated_at, id);
+DROP INDEX CONCURRENTLY IF EXISTS idx_tasks_project_updated;
+
+CREATE OR REPLACE FUNCTION record_task_tombstone() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO sync_tombstones (workspace_id, entity_type, entity_id, deleted_at)
+    VALUES (OLD.workspace_id, 'TASK', OLD.id, clock_timestamp()::timestamp);
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
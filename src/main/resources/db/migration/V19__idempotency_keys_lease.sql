@@ -0,0 +1,9 @@
+-- Lease on an in-progress claim: once it passes without a stored response, the claiming request is
+-- presumed dead (e.g. its node crashed) and a retry may take the key over.
+ALTER TABLE idempotency_keys ADD COLUMN locked_until TIMESTAMP;
+
+-- Identifies the request holding the claim, so a request whose claim was taken over can no longer store
+-- or release it.
+ALTER TABLE idempotency_keys ADD COLUMN claim_token UUID;
+
+UPDATE idempotency_keys SET locked_until = created_at WHERE response_status IS NULL;
@@ -0,0 +1,226 @@
+package com.teamflow.teamflow.backend.common.cache;
+
+import com.jayway.jsonpath.JsonPath;
+import com.teamflow.teamflow.backend.auth.AuthTestHelper;
+import com.teamflow.teamflow.backend.auth.TestVerificationNotifier;
+import com.teamflow.teamflow.backend.auth.security.JwtService;
+import com.teamflow.teamflow.backend.support.IntegrationTestBase;
+import com.teamflow.teamflow.backend.workspaces.domain.WorkspaceMember;
+import com.teamflow.teamflow.backend.workspaces.repo.WorkspaceMemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SecondLevelCacheApiIT extends IntegrationTestBase {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    TestVerificationNotifier notifier;
+
+    @Autowired
+    WorkspaceMemberRepository workspaceMemberRepository;
+
+    @Autowired
+    JwtService jwtService;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private String bearer;
+
+    @BeforeEach
+    void cleanDb() throws Exception {
+        cleanDatabase();
+        bearer = new AuthTestHelper(mockMvc, notifier).obtainBearerToken();
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder rb) {
+        return rb.header(HttpHeaders.AUTHORIZATION, bearer);
+    }
+
+    @Test
+    void repeatedProjectReads_shouldHitCache_andRenameShouldBeVisibleImmediately() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+        UUID projectId = createProjectAndReturnId(workspaceId, "Before");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        getProject(workspaceId, projectId, "Before");
+        long hitsAfterFirstRead = statistics.getCacheRegionStatistics(CacheRegions.PROJECT_LOOKUPS).getHitCount();
+        getProject(workspaceId, projectId, "Before");
+        long hitsAfterSecondRead = statistics.getCacheRegionStatistics(CacheRegions.PROJECT_LOOKUPS).getHitCount();
+
+        assertTrue(hitsAfterSecondRead > hitsAfterFirstRead);
+
+        mockMvc.perform(
+                        authorized(patch("/api/v1/workspaces/{workspaceId}/projects/{id}", workspaceId, projectId))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        { "name": "After" }
+                                        """)
+                )
+                .andExpect(status().isOk());
+
+        getProject(workspaceId, projectId, "After");
+
+        mockMvc.perform(authorized(post("/api/v1/workspaces/{workspaceId}/projects/{id}/archive", workspaceId, projectId)))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/projects/{id}", workspaceId, projectId))
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("ARCHIVED"));
+    }
+
+    @Test
+    void removedMember_shouldLoseAccessImmediately_despiteCachedRole() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+
+        AuthTestHelper auth2 = new AuthTestHelper(mockMvc, notifier);
+        String accessToken2 = auth2.obtainAccessToken();
+        String bearer2 = "Bearer " + accessToken2;
+        UUID userId2 = UUID.fromString(jwtService.extractUserId(accessToken2));
+        workspaceMemberRepository.save(WorkspaceMember.member(workspaceId, userId2));
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(
+                            get("/api/v1/workspaces/{workspaceId}/projects", workspaceId)
+                                    .header(HttpHeaders.AUTHORIZATION, bearer2)
+                                    .accept(MediaType.APPLICATION_JSON)
+                    )
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(authorized(delete("/api/v1/workspaces/{id}/members/{userId}", workspaceId, userId2)))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(
+                        get("/api/v1/workspaces/{workspaceId}/projects", workspaceId)
+                                .header(HttpHeaders.AUTHORIZATION, bearer2)
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.detail").value("Workspace not found."));
+    }
+
+    @Test
+    void removedMember_shouldLoseWorkspaceAccess_despiteCachedMembershipLookup() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+
+        AuthTestHelper auth2 = new AuthTestHelper(mockMvc, notifier);
+        String accessToken2 = auth2.obtainAccessToken();
+        String bearer2 = "Bearer " + accessToken2;
+        UUID userId2 = UUID.fromString(jwtService.extractUserId(accessToken2));
+        workspaceMemberRepository.save(WorkspaceMember.member(workspaceId, userId2));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(
+                            get("/api/v1/workspaces/{id}", workspaceId)
+                                    .header(HttpHeaders.AUTHORIZATION, bearer2)
+                                    .accept(MediaType.APPLICATION_JSON)
+                    )
+                    .andExpect(status().isOk());
+        }
+        assertTrue(statistics.getCacheRegionStatistics(CacheRegions.WORKSPACE_MEMBER_ROLES).getHitCount() > 0);
+
+        mockMvc.perform(authorized(delete("/api/v1/workspaces/{id}/members/{userId}", workspaceId, userId2)))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(
+                        get("/api/v1/workspaces/{id}", workspaceId)
+                                .header(HttpHeaders.AUTHORIZATION, bearer2)
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.detail").value("Workspace not found."));
+    }
+
+    @Test
+    void hitRatioGauge_shouldReportCacheHits_withoutHibernateStatistics() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+        UUID projectId = createProjectAndReturnId(workspaceId, "Cached");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(false);
+        try {
+            getProject(workspaceId, projectId, "Cached");
+            getProject(workspaceId, projectId, "Cached");
+        } finally {
+            statistics.setStatisticsEnabled(true);
+        }
+
+        double ratio = meterRegistry.get("teamflow.hibernate.cache.hit.ratio")
+                .tag("region", CacheRegions.PROJECT_LOOKUPS)
+                .gauge()
+                .value();
+
+        assertFalse(Double.isNaN(ratio));
+        assertTrue(ratio > 0 && ratio <= 1);
+    }
+
+    private void getProject(UUID workspaceId, UUID projectId, String expectedName) throws Exception {
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/projects/{id}", workspaceId, projectId))
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value(expectedName));
+    }
+
+    private UUID createWorkspaceAndReturnId(String name) throws Exception {
+        MvcResult result = mockMvc.perform(
+                        authorized(post("/api/v1/workspaces"))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        { "name": "%s" }
+                                        """.formatted(name))
+                )
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return UUID.fromString(JsonPath.read(result.getResponse().getContentAsString(), "$.id"));
+    }
+
+    private UUID createProjectAndReturnId(UUID workspaceId, String name) throws Exception {
+        MvcResult result = mockMvc.perform(
+                        authorized(post("/api/v1/workspaces/{workspaceId}/projects", workspaceId))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        { "name": "%s" }
+                                        """.formatted(name))
+                )
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return UUID.fromString(JsonPath.read(result.getResponse().getContentAsString(), "$.id"));
+    }
+}
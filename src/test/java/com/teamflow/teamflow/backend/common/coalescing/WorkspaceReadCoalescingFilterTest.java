@@ -0,0 +1,160 @@
+package com.teamflow.teamflow.backend.common.coalescing;
+
+import com.teamflow.teamflow.backend.common.events.WorkspaceChangedEvent;
+import com.teamflow.teamflow.backend.common.security.CurrentUserProvider;
+import com.teamflow.teamflow.backend.workspaces.domain.WorkspaceMemberRole;
+import com.teamflow.teamflow.backend.workspaces.repo.WorkspaceMemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WorkspaceReadCoalescingFilterTest {
+
+    private CurrentUserProvider currentUserProvider;
+    private WorkspaceMemberRepository workspaceMemberRepository;
+    private WorkspaceReadCoalescingFilter filter;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID workspaceId = UUID.randomUUID();
+
+    private final CountDownLatch leaderStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseLeader = new CountDownLatch(1);
+    private final AtomicInteger executions = new AtomicInteger();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @BeforeEach
+    void setUp() {
+        currentUserProvider = mock(CurrentUserProvider.class);
+        workspaceMemberRepository = mock(WorkspaceMemberRepository.class);
+        filter = new WorkspaceReadCoalescingFilter(
+                currentUserProvider, workspaceMemberRepository, new SimpleMeterRegistry(), true, 5_000);
+
+        when(currentUserProvider.findCurrentUserId()).thenReturn(Optional.of(userId));
+        when(workspaceMemberRepository.findRole(workspaceId, userId)).thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseLeader.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentIdenticalReads_shouldExecuteOnce_andShareResponse() throws Exception {
+        CompletableFuture<MockHttpServletResponse> leader = CompletableFuture.supplyAsync(() -> perform(blockingChain()), executor);
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<MockHttpServletResponse> follower = CompletableFuture.supplyAsync(() -> perform(blockingChain()), executor);
+        awaitWaiting(1);
+        releaseLeader.countDown();
+
+        MockHttpServletResponse leaderResponse = leader.get(5, TimeUnit.SECONDS);
+        MockHttpServletResponse followerResponse = follower.get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, executions.get());
+        assertEquals(200, followerResponse.getStatus());
+        assertEquals("application/json", followerResponse.getContentType());
+        assertEquals(leaderResponse.getContentAsString(), followerResponse.getContentAsString());
+        assertEquals("true", followerResponse.getHeader(WorkspaceReadCoalescingFilter.COALESCED_HEADER));
+        assertNull(leaderResponse.getHeader(WorkspaceReadCoalescingFilter.COALESCED_HEADER));
+        verify(workspaceMemberRepository, times(2)).findRole(workspaceId, userId);
+    }
+
+    @Test
+    void nonMember_shouldNotJoinFlight() throws Exception {
+        CompletableFuture<MockHttpServletResponse> leader = CompletableFuture.supplyAsync(() -> perform(blockingChain()), executor);
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        when(workspaceMemberRepository.findRole(workspaceId, userId)).thenReturn(Optional.empty());
+        MockHttpServletResponse outsider = perform((req, res) -> ((HttpServletResponse) res).setStatus(404));
+
+        assertEquals(404, outsider.getStatus());
+        assertNull(outsider.getHeader(WorkspaceReadCoalescingFilter.COALESCED_HEADER));
+
+        releaseLeader.countDown();
+        leader.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void committedChange_shouldStartNewFlightForLaterReads() throws Exception {
+        CompletableFuture<MockHttpServletResponse> leader = CompletableFuture.supplyAsync(() -> perform(blockingChain()), executor);
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        filter.onWorkspaceChanged(new WorkspaceChangedEvent(workspaceId));
+        MockHttpServletResponse afterWrite = perform(countingChain());
+
+        assertEquals(2, executions.get());
+        assertNull(afterWrite.getHeader(WorkspaceReadCoalescingFilter.COALESCED_HEADER));
+
+        releaseLeader.countDown();
+        leader.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void sequentialReads_shouldEachExecute() {
+        perform(countingChain());
+        perform(countingChain());
+
+        assertEquals(2, executions.get());
+    }
+
+    private MockHttpServletResponse perform(FilterChain chain) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/workspaces/" + workspaceId + "/projects");
+        request.setQueryString("page=0");
+        request.addHeader("Accept", "application/json");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return response;
+    }
+
+    private FilterChain countingChain() {
+        return (req, res) -> {
+            int n = executions.incrementAndGet();
+            res.setContentType("application/json");
+            res.getOutputStream().write(("{\"run\":" + n + "}").getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private FilterChain blockingChain() {
+        FilterChain counting = countingChain();
+        return (req, res) -> {
+            leaderStarted.countDown();
+            try {
+                assertTrue(releaseLeader.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            counting.doFilter(req, res);
+        };
+    }
+
+    private void awaitWaiting(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (filter.waitingCount() < expected) {
+            assertTrue(System.nanoTime() < deadline, "follower never joined the flight");
+            Thread.sleep(5);
+        }
+    }
+}
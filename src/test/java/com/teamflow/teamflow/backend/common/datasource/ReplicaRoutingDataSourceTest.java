@@ -0,0 +1,111 @@
+package com.teamflow.teamflow.backend.common.datasource;
+
+import com.teamflow.teamflow.backend.common.security.CurrentUserProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaLagMonitor lagMonitor;
+    private RecentWriteTracker recentWrites;
+    private CurrentUserProvider currentUserProvider;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        lagMonitor = mock(ReplicaLagMonitor.class);
+        recentWrites = new RecentWriteTracker(Duration.ofSeconds(5));
+        currentUserProvider = mock(CurrentUserProvider.class);
+
+        routing = new ReplicaRoutingDataSource(
+                mock(DataSource.class), mock(DataSource.class), lagMonitor, recentWrites, currentUserProvider);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void readOnlyTransaction_whenReplicaInSync_shouldRouteToReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isAvailable()).thenReturn(true);
+        when(currentUserProvider.findCurrentUserId()).thenReturn(Optional.of(UUID.randomUUID()));
+
+        assertEquals(ReplicaRoutingDataSource.Route.REPLICA, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void readOnlyTransaction_whenReplicaLagging_shouldRouteToPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isAvailable()).thenReturn(false);
+        when(currentUserProvider.findCurrentUserId()).thenReturn(Optional.empty());
+
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void pinnedReadOnlyRoute_shouldHoldUntilReleased_evenIfReplicaFallsBehind() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isAvailable()).thenReturn(true, false);
+        when(currentUserProvider.findCurrentUserId()).thenReturn(Optional.empty());
+
+        assertEquals(ReplicaRoutingDataSource.Route.REPLICA, routing.pinReadOnlyRoute());
+        assertTrue(routing.isRoutePinned());
+        assertEquals(ReplicaRoutingDataSource.Route.REPLICA, routing.determineCurrentLookupKey());
+
+        routing.releasePinnedRoute();
+        assertFalse(routing.isRoutePinned());
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void readWriteTransaction_shouldIgnorePinnedReadOnlyRoute() {
+        when(lagMonitor.isAvailable()).thenReturn(true);
+        when(currentUserProvider.findCurrentUserId()).thenReturn(Optional.empty());
+        routing.pinReadOnlyRoute();
+
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, routing.determineCurrentLookupKey());
+        routing.releasePinnedRoute();
+    }
+
+    @Test
+    void readWriteTransaction_shouldRouteToPrimary_andPinUserAfterCommit() {
+        UUID userId = UUID.randomUUID();
+        when(currentUserProvider.findCurrentUserId()).thenReturn(Optional.of(userId));
+
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, routing.determineCurrentLookupKey());
+        assertFalse(recentWrites.wroteRecently(userId));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertTrue(recentWrites.wroteRecently(userId));
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isAvailable()).thenReturn(true);
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void readWriteTransaction_whenRolledBack_shouldNotPinUser() {
+        UUID userId = UUID.randomUUID();
+        when(currentUserProvider.findCurrentUserId()).thenReturn(Optional.of(userId));
+
+        routing.determineCurrentLookupKey();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertFalse(recentWrites.wroteRecently(userId));
+    }
+}
@@ -0,0 +1,41 @@
+package com.teamflow.teamflow.backend.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void next_shouldSetVersionVariantAndCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7Generator.next();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        long millis = id.getMostSignificantBits() >>> 16;
+        // Bursts of ids (see the ordering test) may borrow a few milliseconds ahead of the clock.
+        assertTrue(millis >= before && millis <= after + 1_000, "timestamp " + millis);
+    }
+
+    @Test
+    void next_shouldBeStrictlyIncreasing() {
+        UUID previous = UuidV7Generator.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID current = UuidV7Generator.next();
+            assertTrue(previous.compareTo(current) < 0, previous + " >= " + current);
+            previous = current;
+        }
+    }
+
+    @Test
+    void of_shouldPlaceTimestampAndRandomBits() {
+        UUID id = UuidV7Generator.of(0x0123456789abL, 0xfffff_abcL, -1L);
+
+        assertEquals("01234567-89ab-7abc-bfff-ffffffffffff", id.toString());
+        assertEquals(0x0123456789abL, id.getMostSignificantBits() >>> 16);
+    }
+}
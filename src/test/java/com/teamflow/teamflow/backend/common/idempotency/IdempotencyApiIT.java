@@ -0,0 +1,238 @@
+package com.teamflow.teamflow.backend.common.idempotency;
+
+import com.jayway.jsonpath.JsonPath;
+import com.teamflow.teamflow.backend.auth.AuthTestHelper;
+import com.teamflow.teamflow.backend.auth.TestVerificationNotifier;
+import com.teamflow.teamflow.backend.support.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class IdempotencyApiIT extends IntegrationTestBase {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    TestVerificationNotifier notifier;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private String bearer;
+
+    @BeforeEach
+    void cleanDb() throws Exception {
+        cleanDatabase();
+        bearer = new AuthTestHelper(mockMvc, notifier).obtainBearerToken();
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder rb) {
+        return rb.header(HttpHeaders.AUTHORIZATION, bearer);
+    }
+
+    @Test
+    void retriedCreate_withSameKey_shouldReplayResponse_andCreateOnce() throws Exception {
+        UUID workspaceId = createAndReturnId(post("/api/v1/workspaces"), "Ws_" + UUID.randomUUID());
+        UUID projectId = createAndReturnId(post("/api/v1/workspaces/{workspaceId}/projects", workspaceId), "Project");
+        String key = UUID.randomUUID().toString();
+
+        MvcResult first = createTask(workspaceId, projectId, key, "Write docs")
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+                .andReturn();
+
+        MvcResult retry = createTask(workspaceId, projectId, key, "Write docs")
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andReturn();
+
+        assertEquals(
+                JsonPath.read(first.getResponse().getContentAsString(), "$.id").toString(),
+                JsonPath.read(retry.getResponse().getContentAsString(), "$.id").toString()
+        );
+
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks", workspaceId, projectId))
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1));
+    }
+
+    @Test
+    void reusedKey_withDifferentBody_shouldReturn422() throws Exception {
+        UUID workspaceId = createAndReturnId(post("/api/v1/workspaces"), "Ws_" + UUID.randomUUID());
+        UUID projectId = createAndReturnId(post("/api/v1/workspaces/{workspaceId}/projects", workspaceId), "Project");
+        String key = UUID.randomUUID().toString();
+
+        createTask(workspaceId, projectId, key, "First").andExpect(status().isCreated());
+
+        createTask(workspaceId, projectId, key, "Second")
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.detail").value("Idempotency-Key was already used for a different request."));
+    }
+
+    @Test
+    void reusedKey_withDifferentAccept_shouldReturn422() throws Exception {
+        UUID workspaceId = createAndReturnId(post("/api/v1/workspaces"), "Ws_" + UUID.randomUUID());
+        UUID projectId = createAndReturnId(post("/api/v1/workspaces/{workspaceId}/projects", workspaceId), "Project");
+        String key = UUID.randomUUID().toString();
+
+        createTask(workspaceId, projectId, key, "Write docs").andExpect(status().isCreated());
+
+        mockMvc.perform(
+                        authorized(post("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks", workspaceId, projectId))
+                                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.valueOf("application/cbor"))
+                                .content("""
+                                        { "title": "Write docs" }
+                                        """)
+                )
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void unfinishedClaim_shouldBlockRetries_untilItsLeaseRunsOut() throws Exception {
+        UUID workspaceId = createAndReturnId(post("/api/v1/workspaces"), "Ws_" + UUID.randomUUID());
+        UUID projectId = createAndReturnId(post("/api/v1/workspaces/{workspaceId}/projects", workspaceId), "Project");
+        String seedKey = UUID.randomUUID().toString();
+        createTask(workspaceId, projectId, seedKey, "Write docs").andExpect(status().isCreated());
+        String key = UUID.randomUUID().toString();
+
+        // A claim for the same request left behind by a request that never finished, e.g. on a node that crashed.
+        jdbcTemplate.update("""
+                INSERT INTO idempotency_keys (user_id, idempotency_key, request_hash, created_at, expires_at, locked_until)
+                SELECT user_id, ?, request_hash, now(), now() + INTERVAL '1 day', now() + INTERVAL '1 hour'
+                FROM idempotency_keys WHERE idempotency_key = ?
+                """, key, seedKey);
+
+        createTask(workspaceId, projectId, key, "Write docs")
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.detail").value("A request with this Idempotency-Key is still being processed."));
+
+        jdbcTemplate.update("UPDATE idempotency_keys SET locked_until = now() - INTERVAL '1 second' WHERE idempotency_key = ?", key);
+
+        createTask(workspaceId, projectId, key, "Write docs")
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+
+        createTask(workspaceId, projectId, key, "Write docs")
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"));
+    }
+
+    @Test
+    void failedRequest_shouldNotBeStored_soRetryExecutes() throws Exception {
+        UUID workspaceId = createAndReturnId(post("/api/v1/workspaces"), "Ws_" + UUID.randomUUID());
+        UUID projectId = createAndReturnId(post("/api/v1/workspaces/{workspaceId}/projects", workspaceId), "Project");
+        String key = UUID.randomUUID().toString();
+
+        mockMvc.perform(
+                        authorized(post("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks", workspaceId, projectId))
+                                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        { "title": "" }
+                                        """)
+                )
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(
+                        authorized(post("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks", workspaceId, projectId))
+                                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        { "title": "" }
+                                        """)
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void requestsWithoutKey_shouldNotBeDeduplicated() throws Exception {
+        UUID workspaceId = createAndReturnId(post("/api/v1/workspaces"), "Ws_" + UUID.randomUUID());
+        UUID projectId = createAndReturnId(post("/api/v1/workspaces/{workspaceId}/projects", workspaceId), "Project");
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(
+                            authorized(post("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks", workspaceId, projectId))
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content("""
+                                            { "title": "Same title" }
+                                            """)
+                    )
+                    .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks", workspaceId, projectId))
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2));
+    }
+
+    @Test
+    void oversizedKey_shouldReturn400() throws Exception {
+        mockMvc.perform(
+                        authorized(post("/api/v1/workspaces"))
+                                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "k".repeat(256))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        { "name": "Ws" }
+                                        """)
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Idempotency-Key must be between 1 and 255 characters."));
+    }
+
+    private ResultActions createTask(
+            UUID workspaceId, UUID projectId, String key, String title) throws Exception {
+        return mockMvc.perform(
+                authorized(post("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks", workspaceId, projectId))
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "title": "%s" }
+                                """.formatted(title))
+        );
+    }
+
+    private UUID createAndReturnId(MockHttpServletRequestBuilder rb, String name) throws Exception {
+        MvcResult result = mockMvc.perform(
+                        authorized(rb)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        { "name": "%s" }
+                                        """.formatted(name))
+                )
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return UUID.fromString(JsonPath.read(result.getResponse().getContentAsString(), "$.id"));
+    }
+}
@@ -0,0 +1,75 @@
+package com.teamflow.teamflow.backend.common.idempotency;
+
+import com.teamflow.teamflow.backend.support.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class IdempotencyStoreIT extends IntegrationTestBase {
+
+    @Autowired
+    NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    // Zero lease: every unfinished claim can be taken over straight away.
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        cleanDatabase();
+        store = new IdempotencyStore(namedParameterJdbcTemplate, 24, 0, 100);
+    }
+
+    @Test
+    void staleOwner_afterTakeover_shouldNeitherReleaseNorCompleteTheClaim() {
+        UUID userId = UUID.randomUUID();
+        String key = UUID.randomUUID().toString();
+
+        UUID stale = store.claim(userId, key, "hash").orElseThrow();
+        UUID live = store.claim(userId, key, "hash").orElseThrow();
+        assertNotEquals(stale, live);
+
+        store.release(userId, key, stale);
+        assertEquals(live, claimToken(userId, key));
+
+        store.complete(userId, key, stale, record("stale"));
+        assertFalse(store.find(userId, key).orElseThrow().completed());
+
+        store.complete(userId, key, live, record("live"));
+        IdempotencyRecord stored = store.find(userId, key).orElseThrow();
+        assertTrue(stored.completed());
+        assertEquals("live", new String(stored.body(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void owner_release_shouldFreeTheKey() {
+        UUID userId = UUID.randomUUID();
+        String key = UUID.randomUUID().toString();
+
+        UUID token = store.claim(userId, key, "hash").orElseThrow();
+        store.release(userId, key, token);
+
+        assertTrue(store.find(userId, key).isEmpty());
+    }
+
+    private UUID claimToken(UUID userId, String key) {
+        return jdbcTemplate.queryForObject(
+                "SELECT claim_token FROM idempotency_keys WHERE user_id = ? AND idempotency_key = ?",
+                UUID.class, userId, key);
+    }
+
+    private static IdempotencyRecord record(String body) {
+        return new IdempotencyRecord("hash", 201, "application/json", body.getBytes(StandardCharsets.UTF_8));
+    }
+}
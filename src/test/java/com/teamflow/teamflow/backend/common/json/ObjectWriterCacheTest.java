@@ -0,0 +1,60 @@
+package com.teamflow.teamflow.backend.common.json;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.teamflow.teamflow.backend.common.api.FieldSet;
+import com.teamflow.teamflow.backend.common.api.PageResponse;
+import com.teamflow.teamflow.backend.tasks.api.TaskResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObjectWriterCacheTest {
+
+    private ObjectMapper objectMapper;
+    private ObjectWriterCache cache;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().setFilterProvider(new SimpleFilterProvider().setFailOnUnknownId(false));
+        cache = new ObjectWriterCache(objectMapper);
+    }
+
+    @Test
+    void resolve_forRecordType_shouldReturnSameTypedWriter() {
+        JavaType type = objectMapper.getTypeFactory()
+                .constructParametricType(PageResponse.class, TaskResponse.class);
+
+        ObjectWriter first = cache.resolve(objectMapper.writer(), type);
+        ObjectWriter second = cache.resolve(objectMapper.writer(), type);
+
+        assertSame(first, second);
+        assertTrue(first.hasPrefetchedSerializer());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void resolve_forWriterWithRequestFilters_shouldKeepIt() {
+        JavaType type = objectMapper.constructType(TaskResponse.class);
+        ObjectWriter filtered = objectMapper.writer().with(new SimpleFilterProvider()
+                .addFilter(FieldSet.FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept("id")));
+
+        assertSame(filtered, cache.resolve(filtered, type));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void resolve_forNonFinalType_shouldKeepUntypedWriter() {
+        ObjectWriter writer = objectMapper.writer();
+
+        assertSame(writer, cache.resolve(writer, objectMapper.constructType(List.class)));
+        assertSame(writer, cache.resolve(writer, null));
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,80 @@
+package com.teamflow.teamflow.backend.common.migration;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class FlywayStartupStrategyTest {
+
+    private JdbcTemplate jdbc;
+    private FlywayStartupStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = mock(JdbcTemplate.class);
+        strategy = new FlywayStartupStrategy(FlywayStartupStrategy.Mode.CHECK);
+    }
+
+    @Test
+    void latestAvailable_shouldFindNewestMigrationOnClasspath() {
+        Configuration config = Flyway.configure().locations("classpath:db/migration").load().getConfiguration();
+
+        MigrationVersion latest = SchemaVersions.latestAvailable(config);
+
+        assertTrue(latest.isAtLeast("17"));
+    }
+
+    @Test
+    void check_whenSchemaIsCurrent_shouldPass() {
+        when(jdbc.queryForList(anyString(), eq(String.class))).thenReturn(List.of("1", "9", "10"));
+
+        assertDoesNotThrow(() -> strategy.check(MigrationVersion.fromVersion("10"), jdbc, "flyway_schema_history"));
+    }
+
+    @Test
+    void check_whenSchemaIsAhead_shouldPass() {
+        when(jdbc.queryForList(anyString(), eq(String.class))).thenReturn(List.of("10", "11"));
+
+        assertDoesNotThrow(() -> strategy.check(MigrationVersion.fromVersion("10"), jdbc, "flyway_schema_history"));
+    }
+
+    @Test
+    void check_whenSchemaIsBehind_shouldFail() {
+        when(jdbc.queryForList(anyString(), eq(String.class))).thenReturn(List.of("2", "9"));
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> strategy.check(MigrationVersion.fromVersion("10"), jdbc, "flyway_schema_history"));
+        assertTrue(ex.getMessage().contains("expects 10"));
+    }
+
+    @Test
+    void check_whenHistoryTableIsMissing_shouldFail() {
+        when(jdbc.queryForList(anyString(), eq(String.class)))
+                .thenThrow(new BadSqlGrammarException("check", "select", new SQLException("missing")));
+
+        assertThrows(IllegalStateException.class,
+                () -> strategy.check(MigrationVersion.fromVersion("10"), jdbc, "flyway_schema_history"));
+    }
+
+    @Test
+    void migrate_inMigrateMode_shouldApplyMigrations() {
+        Flyway flyway = mock(Flyway.class);
+
+        new FlywayStartupStrategy(FlywayStartupStrategy.Mode.MIGRATE).migrate(flyway);
+
+        verify(flyway).migrate();
+        verifyNoMoreInteractions(flyway);
+    }
+}
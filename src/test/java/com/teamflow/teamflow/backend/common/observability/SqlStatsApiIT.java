@@ -0,0 +1,65 @@
+package com.teamflow.teamflow.backend.common.observability;
+
+import com.teamflow.teamflow.backend.auth.AuthTestHelper;
+import com.teamflow.teamflow.backend.auth.TestVerificationNotifier;
+import com.teamflow.teamflow.backend.support.IntegrationTestBase;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SqlStatsApiIT extends IntegrationTestBase {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    TestVerificationNotifier notifier;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private String bearer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        cleanDatabase();
+        bearer = new AuthTestHelper(mockMvc, notifier).obtainBearerToken();
+    }
+
+    @Test
+    void request_shouldExposeServerTimingHeader_andRecordMetrics() throws Exception {
+        mockMvc.perform(
+                        get("/api/v1/users/me")
+                                .header(HttpHeaders.AUTHORIZATION, bearer)
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().string(
+                        SqlStatsFilter.SERVER_TIMING_HEADER,
+                        matchesPattern("db;dur=\\d+\\.\\d{3};desc=\"[1-9]\\d* statements\"")
+                ));
+
+        DistributionSummary statements = meterRegistry.find("teamflow.http.db.statements")
+                .tag("uri", "/api/v1/users/me")
+                .summary();
+
+        assertNotNull(statements);
+        assertTrue(statements.count() >= 1);
+    }
+}
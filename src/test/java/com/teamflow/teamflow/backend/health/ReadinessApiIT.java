@@ -0,0 +1,111 @@
+package com.teamflow.teamflow.backend.health;
+
+import com.teamflow.teamflow.backend.auth.security.JwtService;
+import com.teamflow.teamflow.backend.support.IntegrationTestBase;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReadinessApiIT extends IntegrationTestBase {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ReadinessMonitor readinessMonitor;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    ObjectProvider<Flyway> flyway;
+
+    @Autowired
+    ApplicationAvailability availability;
+
+    @Autowired
+    JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        readinessMonitor.refresh();
+    }
+
+    @Test
+    void ready_withoutAuthentication_shouldReturnStatusOnly() throws Exception {
+        mockMvc.perform(get("/api/v1/health/ready"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.reasons").doesNotExist())
+                .andExpect(jsonPath("$.database").doesNotExist())
+                .andExpect(jsonPath("$.pool").doesNotExist())
+                .andExpect(jsonPath("$.migrations").doesNotExist());
+    }
+
+    @Test
+    void actuatorReadiness_shouldIncludeCachedCheck() throws Exception {
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+    }
+
+    @Test
+    void actuatorHealth_withoutAuthentication_shouldHideDetails() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.components").doesNotExist());
+    }
+
+    @Test
+    void actuatorHealth_forAdmin_shouldReportDatabasePoolAndMigrations() throws Exception {
+        String token = jwtService.generateAccessToken(UUID.randomUUID(), "ops@example.com", "ADMIN");
+
+        mockMvc.perform(get("/actuator/health").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.components.databaseReadiness.status").value("UP"))
+                .andExpect(jsonPath("$.components.databaseReadiness.details.reasons").isEmpty())
+                .andExpect(jsonPath("$.components.databaseReadiness.details.database.up").value(true))
+                .andExpect(jsonPath("$.components.databaseReadiness.details.pool.max").isNumber())
+                .andExpect(jsonPath("$.components.databaseReadiness.details.migrations.state").value("UP"));
+    }
+
+    @Test
+    void current_whenPoolWaitExceedsThreshold_shouldBeDown() {
+        ReadinessMonitor strict = new ReadinessMonitor(dataSource, flyway, availability, -1, 10_000);
+        strict.refresh();
+
+        ReadinessReport report = strict.current();
+
+        assertEquals(ReadinessReport.DOWN, report.status());
+        assertTrue(report.reasons().stream().anyMatch(r -> r.startsWith("connection pool wait")));
+    }
+
+    @Test
+    void current_beforeFirstCheck_shouldBeDown() {
+        ReadinessMonitor fresh = new ReadinessMonitor(dataSource, flyway, availability, 500, 10_000);
+
+        ReadinessReport report = fresh.current();
+
+        assertEquals(ReadinessReport.DOWN, report.status());
+        assertEquals(1, report.reasons().size());
+    }
+}
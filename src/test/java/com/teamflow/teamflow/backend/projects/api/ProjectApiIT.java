@@ -22,6 +22,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -138,6 +142,86 @@ class ProjectApiIT extends IntegrationTestBase {
         assertNotNull(p2);
     }
 
+    @Test
+    void scrollProjects_shouldWalkAllPagesInSortOrder_withoutDuplicates() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+        for (String name : List.of("E", "A", "D", "B", "C")) {
+            createProjectAndReturnId(workspaceId, name);
+        }
+
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MockHttpServletRequestBuilder rb = authorized(get("/api/v1/workspaces/{workspaceId}/projects/scroll", workspaceId))
+                    .param("size", "2")
+                    .param("sort", "name,asc")
+                    .accept(MediaType.APPLICATION_JSON);
+            if (cursor != null) {
+                rb.param("cursor", cursor);
+            }
+
+            String json = mockMvc.perform(rb)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.meta.size").value(2))
+                    .andReturn().getResponse().getContentAsString();
+
+            List<String> pageNames = JsonPath.read(json, "$.items[*].name");
+            names.addAll(pageNames);
+            cursor = JsonPath.read(json, "$.meta.nextCursor");
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(List.of("A", "B", "C", "D", "E"), names);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void scrollProjects_whenCursorFromDifferentSort_shouldReturn400() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+        createProjectAndReturnId(workspaceId, "A");
+        createProjectAndReturnId(workspaceId, "B");
+
+        String json = mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/projects/scroll", workspaceId))
+                                .param("size", "1")
+                                .param("sort", "name,asc")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String cursor = JsonPath.read(json, "$.meta.nextCursor");
+
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/projects/scroll", workspaceId))
+                                .param("size", "1")
+                                .param("sort", "updatedAt,desc")
+                                .param("cursor", cursor)
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.detail").value("Invalid cursor."));
+    }
+
+    @Test
+    void scrollProjects_whenCursorTimestampTampered_shouldReturn400() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                ("updatedAt,desc|" + UUID.randomUUID() + "|not-a-timestamp").getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/projects/scroll", workspaceId))
+                                .param("size", "1")
+                                .param("sort", "updatedAt,desc")
+                                .param("cursor", cursor)
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.detail").value("Invalid cursor."));
+    }
+
     @Test
     void getProjectById_shouldReturn200_andResponseBody() throws Exception {
         UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
@@ -155,6 +239,44 @@ class ProjectApiIT extends IntegrationTestBase {
                 .andExpect(jsonPath("$.status").value("ACTIVE"));
     }
 
+    @Test
+    void getProjectById_withFields_shouldReturnOnlyRequestedFields() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+        UUID projectId = createProjectAndReturnId(workspaceId, "Project X");
+
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/projects/{id}", workspaceId, projectId))
+                                .param("fields", "name")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(projectId.toString()))
+                .andExpect(jsonPath("$.name").value("Project X"))
+                .andExpect(jsonPath("$.workspaceId").doesNotExist())
+                .andExpect(jsonPath("$.status").doesNotExist());
+    }
+
+    @Test
+    void batchGet_shouldReturnProjectsInRequestOrder_withNotFoundMarkers() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+        UUID p1 = createProjectAndReturnId(workspaceId, "One");
+        UUID p2 = createProjectAndReturnId(workspaceId, "Two");
+        UUID missing = UUID.randomUUID();
+
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/projects/batch", workspaceId))
+                                .param("ids", p2 + "," + missing + "," + p1)
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.items[0].item.name").value("Two"))
+                .andExpect(jsonPath("$.items[1].id").value(missing.toString()))
+                .andExpect(jsonPath("$.items[1].found").value(false))
+                .andExpect(jsonPath("$.items[1].item").doesNotExist())
+                .andExpect(jsonPath("$.items[2].item.name").value("One"));
+    }
+
     @Test
     void renameProject_whenOwner_shouldReturn200_andUpdatedName() throws Exception {
         UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
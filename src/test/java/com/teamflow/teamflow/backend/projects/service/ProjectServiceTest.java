@@ -4,22 +4,32 @@ import com.teamflow.teamflow.backend.common.errors.BadRequestException;
 import com.teamflow.teamflow.backend.common.errors.ConflictException;
 import com.teamflow.teamflow.backend.common.errors.ForbiddenException;
 import com.teamflow.teamflow.backend.common.errors.NotFoundException;
+import com.teamflow.teamflow.backend.common.events.WorkspaceChangedEvent;
 import com.teamflow.teamflow.backend.common.security.CurrentUserProvider;
 import com.teamflow.teamflow.backend.projects.domain.Project;
 import com.teamflow.teamflow.backend.projects.domain.ProjectStatus;
+import com.teamflow.teamflow.backend.projects.repo.ProjectKeyset;
 import com.teamflow.teamflow.backend.projects.repo.ProjectRepository;
+import com.teamflow.teamflow.backend.projects.repo.ProjectSortKey;
+import com.teamflow.teamflow.backend.projects.repo.ProjectSortOrder;
+import com.teamflow.teamflow.backend.projects.repo.ProjectView;
 import com.teamflow.teamflow.backend.workspaces.domain.WorkspaceMemberRole;
 import com.teamflow.teamflow.backend.workspaces.repo.WorkspaceMemberRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -29,6 +39,7 @@ class ProjectServiceTest {
     private ProjectRepository projectRepository;
     private WorkspaceMemberRepository workspaceMemberRepository;
     private CurrentUserProvider currentUserProvider;
+    private ApplicationEventPublisher eventPublisher;
     private ProjectService projectService;
 
     @BeforeEach
@@ -37,7 +48,9 @@ class ProjectServiceTest {
         workspaceMemberRepository = mock(WorkspaceMemberRepository.class);
         currentUserProvider = mock(CurrentUserProvider.class);
 
-        projectService = new ProjectService(projectRepository, workspaceMemberRepository, currentUserProvider);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+
+        projectService = new ProjectService(projectRepository, workspaceMemberRepository, currentUserProvider, eventPublisher);
     }
 
     @Test
@@ -66,7 +79,8 @@ class ProjectServiceTest {
         verify(workspaceMemberRepository).findRole(workspaceId, userId);
         verify(projectRepository).existsByWorkspaceIdAndName(workspaceId, "Project");
         verify(projectRepository).save(any(Project.class));
-        verifyNoMoreInteractions(projectRepository, workspaceMemberRepository, currentUserProvider);
+        verify(eventPublisher).publishEvent(new WorkspaceChangedEvent(workspaceId));
+        verifyNoMoreInteractions(projectRepository, workspaceMemberRepository, currentUserProvider, eventPublisher);
     }
 
     @Test
@@ -135,9 +149,9 @@ class ProjectServiceTest {
         UUID userId = UUID.randomUUID();
         Pageable pageable = PageRequest.of(0, 10);
 
-        Project p1 = new Project(workspaceId, "A", userId);
-        Project p2 = new Project(workspaceId, "B", userId);
-        Page<Project> repoPage = new PageImpl<>(List.of(p1, p2), pageable, 2);
+        ProjectView p1 = projectView(workspaceId, "A", ProjectStatus.ACTIVE, userId);
+        ProjectView p2 = projectView(workspaceId, "B", ProjectStatus.ACTIVE, userId);
+        Page<ProjectView> repoPage = new PageImpl<>(List.of(p1, p2), pageable, 2);
 
         when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
         when(workspaceMemberRepository.findRole(workspaceId, userId))
@@ -145,7 +159,7 @@ class ProjectServiceTest {
         when(projectRepository.search(workspaceId, ProjectStatus.ACTIVE, "", pageable))
                 .thenReturn(repoPage);
 
-        Page<Project> result = projectService.list(workspaceId, "ACTIVE", null, pageable);
+        Page<ProjectView> result = projectService.list(workspaceId, "ACTIVE", null, pageable);
 
         assertSame(repoPage, result);
         assertEquals(2, result.getTotalElements());
@@ -179,15 +193,58 @@ class ProjectServiceTest {
         verifyNoInteractions(projectRepository);
     }
 
+    @Test
+    void scroll_whenMember_shouldQueryRepositoryWithSpecification() {
+        UUID workspaceId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        ProjectSortOrder order = new ProjectSortOrder(ProjectSortKey.NAME, Sort.Direction.ASC);
+        List<Project> rows = List.of(new Project(workspaceId, "A", userId));
+
+        when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
+        when(workspaceMemberRepository.findRole(workspaceId, userId))
+                .thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
+        when(projectRepository.findBy(any(Specification.class), any(Function.class)))
+                .thenReturn(rows);
+
+        List<Project> result = projectService.scroll(
+                workspaceId, "ACTIVE", null, order, new ProjectKeyset("0", UUID.randomUUID()), 11);
+
+        assertSame(rows, result);
+
+        verify(currentUserProvider).getCurrentUserId();
+        verify(workspaceMemberRepository).findRole(workspaceId, userId);
+        verify(projectRepository).findBy(any(Specification.class), any(Function.class));
+        verifyNoMoreInteractions(projectRepository, workspaceMemberRepository, currentUserProvider);
+    }
+
+    @Test
+    void scroll_whenNotMember_shouldThrowNotFound() {
+        UUID workspaceId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        ProjectSortOrder order = new ProjectSortOrder(ProjectSortKey.UPDATED_AT, Sort.Direction.DESC);
+
+        when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
+        when(workspaceMemberRepository.findRole(workspaceId, userId))
+                .thenReturn(Optional.empty());
+
+        NotFoundException exception = assertThrows(
+                NotFoundException.class,
+                () -> projectService.scroll(workspaceId, "ACTIVE", null, order, null, 51)
+        );
+
+        assertEquals("Workspace not found.", exception.getMessage());
+        verifyNoInteractions(projectRepository);
+    }
+
     @Test
     void list_whenArchivedAndMember_shouldReturnPage() {
         UUID workspaceId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
         Pageable pageable = PageRequest.of(0, 10);
 
-        Project p1 = new Project(workspaceId, "A", userId);
-        Project p2 = new Project(workspaceId, "B", userId);
-        Page<Project> repoPage = new PageImpl<>(List.of(p1, p2), pageable, 2);
+        ProjectView p1 = projectView(workspaceId, "A", ProjectStatus.ARCHIVED, userId);
+        ProjectView p2 = projectView(workspaceId, "B", ProjectStatus.ARCHIVED, userId);
+        Page<ProjectView> repoPage = new PageImpl<>(List.of(p1, p2), pageable, 2);
 
         when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
         when(workspaceMemberRepository.findRole(workspaceId, userId))
@@ -195,7 +252,7 @@ class ProjectServiceTest {
         when(projectRepository.search(workspaceId, ProjectStatus.ARCHIVED, "", pageable))
                 .thenReturn(repoPage);
 
-        Page<Project> result = projectService.list(workspaceId, "ARCHIVED", null, pageable);
+        Page<ProjectView> result = projectService.list(workspaceId, "ARCHIVED", null, pageable);
 
         assertSame(repoPage, result);
         assertEquals(2, result.getTotalElements());
@@ -234,7 +291,7 @@ class ProjectServiceTest {
         UUID workspaceId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Project> repoPage = Page.empty(pageable);
+        Page<ProjectView> repoPage = Page.empty(pageable);
 
         when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
         when(workspaceMemberRepository.findRole(workspaceId, userId))
@@ -242,7 +299,7 @@ class ProjectServiceTest {
         when(projectRepository.search(workspaceId, ProjectStatus.ACTIVE, "", pageable))
                 .thenReturn(repoPage);
 
-        Page<Project> result = projectService.list(workspaceId, "ACTIVE", "   ", pageable);
+        Page<ProjectView> result = projectService.list(workspaceId, "ACTIVE", "   ", pageable);
 
         assertSame(repoPage, result);
 
@@ -512,4 +569,9 @@ class ProjectServiceTest {
         verify(projectRepository).findByIdAndWorkspaceId(projectId, workspaceId);
         verifyNoMoreInteractions(projectRepository, workspaceMemberRepository, currentUserProvider);
     }
-}
\ No newline at end of file
+
+    private static ProjectView projectView(UUID workspaceId, String name, ProjectStatus status, UUID createdBy) {
+        LocalDateTime now = LocalDateTime.now();
+        return new ProjectView(UUID.randomUUID(), workspaceId, name, status, createdBy, now, now);
+    }
+}
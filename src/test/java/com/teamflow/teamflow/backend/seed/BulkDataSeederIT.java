@@ -0,0 +1,88 @@
+package com.teamflow.teamflow.backend.seed;
+
+import com.teamflow.teamflow.backend.support.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class BulkDataSeederIT extends IntegrationTestBase {
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    BulkDataSeeder seeder;
+
+    @BeforeEach
+    void setUp() {
+        cleanDatabase();
+        seeder = new BulkDataSeeder(dataSource, passwordEncoder);
+    }
+
+    @Test
+    void seed_shouldInsertPlannedRowCounts_withSkewedWorkspaces() {
+        SeedPlan plan = new SeedPlan("it", 50, 10, 40, 2_000, 2, 20, 1.2, 7L, "password123");
+
+        BulkDataSeeder.Result result = seeder.seed(plan);
+
+        assertEquals(50, count("users"));
+        assertEquals(10, count("workspaces"));
+        assertEquals(40, count("projects"));
+        assertEquals(2_000, count("tasks"));
+        assertEquals(result.members(), count("workspace_members"));
+        assertEquals(10, (long) jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM workspace_members WHERE role = 'OWNER'", Long.class));
+
+        List<Long> tasksPerWorkspace = jdbcTemplate.queryForList("""
+                SELECT count(t.id)
+                FROM workspaces w
+                JOIN projects p ON p.workspace_id = w.id
+                LEFT JOIN tasks t ON t.project_id = p.id
+                GROUP BY w.id
+                ORDER BY count(t.id) DESC
+                """, Long.class);
+        assertTrue(tasksPerWorkspace.getFirst() > tasksPerWorkspace.getLast() * 5);
+
+        Long foreignAssignees = jdbcTemplate.queryForObject("""
+                SELECT count(*)
+                FROM tasks t
+                JOIN projects p ON p.id = t.project_id
+                WHERE t.assignee_user_id IS NOT NULL
+                  AND NOT EXISTS (SELECT 1 FROM workspace_members wm
+                                  WHERE wm.workspace_id = p.workspace_id AND wm.user_id = t.assignee_user_id)
+                """, Long.class);
+        assertEquals(0L, foreignAssignees);
+    }
+
+    @Test
+    void zipfAllocation_shouldPreserveTotal_andRespectMinimum() {
+        long[] skewed = BulkDataSeeder.zipfAllocation(1_000, 7, 1.5, 3);
+        long[] uniform = BulkDataSeeder.zipfAllocation(700, 7, 0, 0);
+
+        assertEquals(1_000, Arrays.stream(skewed).sum());
+        assertTrue(Arrays.stream(skewed).allMatch(n -> n >= 3));
+        assertTrue(skewed[0] > skewed[6]);
+        assertTrue(Arrays.stream(uniform).allMatch(n -> n == 100));
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Long.class);
+    }
+}
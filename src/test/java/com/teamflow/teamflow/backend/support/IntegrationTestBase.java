@@ -1,5 +1,7 @@
 package com.teamflow.teamflow.backend.support;
 
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
@@ -11,6 +13,9 @@ public abstract class IntegrationTestBase {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     static final PostgreSQLContainer<?> POSTGRES =
             new PostgreSQLContainer<>("postgres:16-alpine")
                     .withDatabaseName("teamflow")
@@ -30,11 +35,15 @@ public abstract class IntegrationTestBase {
 
         registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
         registry.add("spring.jpa.open-in-view", () -> "false");
+        registry.add("teamflow.warmup.enabled", () -> "false");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
     }
 
     protected void cleanDatabase() {
         jdbcTemplate.execute("""
             TRUNCATE TABLE
+                idempotency_keys,
+                sync_tombstones,
                 tasks,
                 projects,
                 workspace_invites,
@@ -43,5 +52,8 @@ public abstract class IntegrationTestBase {
                 users
             RESTART IDENTITY CASCADE
             """);
+
+        // TRUNCATE bypasses Hibernate, so cached entities and query results would outlive the rows.
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
     }
 }
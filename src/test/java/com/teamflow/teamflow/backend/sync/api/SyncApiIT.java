@@ -0,0 +1,178 @@
+package com.teamflow.teamflow.backend.sync.api;
+
+import com.jayway.jsonpath.JsonPath;
+import com.teamflow.teamflow.backend.auth.AuthTestHelper;
+import com.teamflow.teamflow.backend.auth.TestVerificationNotifier;
+import com.teamflow.teamflow.backend.support.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "teamflow.sync.settle-window-ms=0")
+@AutoConfigureMockMvc
+class SyncApiIT extends IntegrationTestBase {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    TestVerificationNotifier notifier;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private String bearer;
+
+    @BeforeEach
+    void cleanDb() throws Exception {
+        cleanDatabase();
+        bearer = new AuthTestHelper(mockMvc, notifier).obtainBearerToken();
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder rb) {
+        return rb.header(HttpHeaders.AUTHORIZATION, bearer);
+    }
+
+    @Test
+    void sync_shouldReturnFullStateFirst_thenOnlyChangesAndTombstones() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+        UUID projectId = createProjectAndReturnId(workspaceId, "Project A");
+        UUID t1 = createTaskAndReturnId(workspaceId, projectId, "T1");
+        UUID t2 = createTaskAndReturnId(workspaceId, projectId, "T2");
+
+        MvcResult initial = mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/sync", workspaceId))
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projects.length()").value(1))
+                .andExpect(jsonPath("$.tasks.length()").value(2))
+                .andExpect(jsonPath("$.removed.length()").value(0))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andReturn();
+        String watermark = JsonPath.read(initial.getResponse().getContentAsString(), "$.watermark");
+
+        mockMvc.perform(
+                        authorized(patch("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks/{id}", workspaceId, projectId, t1))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        { "title": "T1 renamed" }
+                                        """)
+                )
+                .andExpect(status().isOk());
+        jdbcTemplate.update("DELETE FROM tasks WHERE id = ?", t2);
+
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/sync", workspaceId))
+                                .param("since", watermark)
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projects.length()").value(0))
+                .andExpect(jsonPath("$.tasks.length()").value(1))
+                .andExpect(jsonPath("$.tasks[0].id").value(t1.toString()))
+                .andExpect(jsonPath("$.tasks[0].title").value("T1 renamed"))
+                .andExpect(jsonPath("$.removed.length()").value(1))
+                .andExpect(jsonPath("$.removed[0].entityType").value("TASK"))
+                .andExpect(jsonPath("$.removed[0].entityId").value(t2.toString()));
+    }
+
+    @Test
+    void sync_withSmallLimit_shouldPageThroughChanges() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+        UUID projectId = createProjectAndReturnId(workspaceId, "Project A");
+        UUID t1 = createTaskAndReturnId(workspaceId, projectId, "T1");
+        UUID t2 = createTaskAndReturnId(workspaceId, projectId, "T2");
+
+        MvcResult first = mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/sync", workspaceId))
+                                .param("limit", "1")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks.length()").value(1))
+                .andExpect(jsonPath("$.tasks[0].id").value(t1.toString()))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn();
+        String watermark = JsonPath.read(first.getResponse().getContentAsString(), "$.watermark");
+
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/sync", workspaceId))
+                                .param("since", watermark)
+                                .param("limit", "1")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projects.length()").value(0))
+                .andExpect(jsonPath("$.tasks.length()").value(1))
+                .andExpect(jsonPath("$.tasks[0].id").value(t2.toString()))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void sync_whenWatermarkInvalid_shouldReturn400_andProblemDetail() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/sync", workspaceId))
+                                .param("since", "not-a-watermark")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Invalid sync watermark."));
+    }
+
+    @Test
+    void sync_whenUserNotWorkspaceMember_shouldReturn404_andProblemDetail() throws Exception {
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/sync", UUID.randomUUID()))
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.detail").value("Workspace not found."));
+    }
+
+    private UUID createWorkspaceAndReturnId(String name) throws Exception {
+        return postAndReturnId(post("/api/v1/workspaces"), """
+                { "name": "%s" }
+                """.formatted(name));
+    }
+
+    private UUID createProjectAndReturnId(UUID workspaceId, String name) throws Exception {
+        return postAndReturnId(post("/api/v1/workspaces/{workspaceId}/projects", workspaceId), """
+                { "name": "%s" }
+                """.formatted(name));
+    }
+
+    private UUID createTaskAndReturnId(UUID workspaceId, UUID projectId, String title) throws Exception {
+        return postAndReturnId(post("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks", workspaceId, projectId), """
+                { "title": "%s" }
+                """.formatted(title));
+    }
+
+    private UUID postAndReturnId(MockHttpServletRequestBuilder request, String body) throws Exception {
+        MvcResult result = mockMvc.perform(
+                        authorized(request)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.APPLICATION_JSON)
+                                .content(body)
+                )
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return UUID.fromString(JsonPath.read(result.getResponse().getContentAsString(), "$.id"));
+    }
+}
@@ -0,0 +1,130 @@
+package com.teamflow.teamflow.backend.sync.api;
+
+import com.jayway.jsonpath.JsonPath;
+import com.teamflow.teamflow.backend.auth.AuthTestHelper;
+import com.teamflow.teamflow.backend.auth.TestVerificationNotifier;
+import com.teamflow.teamflow.backend.sync.service.WorkspaceChangeRegistry;
+import com.teamflow.teamflow.backend.support.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class WorkspaceChangesApiIT extends IntegrationTestBase {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    TestVerificationNotifier notifier;
+
+    @Autowired
+    WorkspaceChangeRegistry workspaceChangeRegistry;
+
+    private String bearer;
+
+    @BeforeEach
+    void cleanDb() throws Exception {
+        cleanDatabase();
+        bearer = new AuthTestHelper(mockMvc, notifier).obtainBearerToken();
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder rb) {
+        return rb.header(HttpHeaders.AUTHORIZATION, bearer);
+    }
+
+    @Test
+    void longPoll_shouldParkUntilProjectIsCreated() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+
+        MvcResult parked = mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/changes", workspaceId))
+                                .param("token", workspaceChangeRegistry.currentToken())
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertFalse(parked.getResponse().isCommitted());
+
+        mockMvc.perform(
+                        authorized(post("/api/v1/workspaces/{workspaceId}/projects", workspaceId))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        { "name": "Project A" }
+                                        """)
+                )
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(asyncDispatch(parked))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").value(true))
+                .andExpect(jsonPath("$.token").value(workspaceChangeRegistry.currentToken()));
+    }
+
+    @Test
+    void longPoll_whenTokenIsBehind_shouldReturnImmediately() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+        String token = workspaceChangeRegistry.currentToken();
+
+        mockMvc.perform(
+                        authorized(post("/api/v1/workspaces/{workspaceId}/projects", workspaceId))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        { "name": "Project A" }
+                                        """)
+                )
+                .andExpect(status().isCreated());
+
+        MvcResult result = mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/changes", workspaceId))
+                                .param("token", token)
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").value(true));
+    }
+
+    @Test
+    void longPoll_whenUserNotWorkspaceMember_shouldReturn404_andProblemDetail() throws Exception {
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/changes", UUID.randomUUID()))
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.detail").value("Workspace not found."));
+    }
+
+    private UUID createWorkspaceAndReturnId(String name) throws Exception {
+        MvcResult result = mockMvc.perform(
+                        authorized(post("/api/v1/workspaces"))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        { "name": "%s" }
+                                        """.formatted(name))
+                )
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return UUID.fromString(JsonPath.read(result.getResponse().getContentAsString(), "$.id"));
+    }
+}
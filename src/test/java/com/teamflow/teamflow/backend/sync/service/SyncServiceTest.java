@@ -0,0 +1,120 @@
+package com.teamflow.teamflow.backend.sync.service;
+
+import com.teamflow.teamflow.backend.common.errors.NotFoundException;
+import com.teamflow.teamflow.backend.common.security.CurrentUserProvider;
+import com.teamflow.teamflow.backend.projects.repo.ProjectRepository;
+import com.teamflow.teamflow.backend.sync.repo.SyncTombstoneRepository;
+import com.teamflow.teamflow.backend.tasks.domain.TaskStatus;
+import com.teamflow.teamflow.backend.tasks.repo.TaskRepository;
+import com.teamflow.teamflow.backend.tasks.repo.TaskView;
+import com.teamflow.teamflow.backend.workspaces.domain.WorkspaceMemberRole;
+import com.teamflow.teamflow.backend.workspaces.repo.WorkspaceMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SyncServiceTest {
+
+    private ProjectRepository projectRepository;
+    private TaskRepository taskRepository;
+    private SyncTombstoneRepository syncTombstoneRepository;
+    private WorkspaceMemberRepository workspaceMemberRepository;
+    private CurrentUserProvider currentUserProvider;
+
+    private SyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        projectRepository = mock(ProjectRepository.class);
+        taskRepository = mock(TaskRepository.class);
+        syncTombstoneRepository = mock(SyncTombstoneRepository.class);
+        workspaceMemberRepository = mock(WorkspaceMemberRepository.class);
+        currentUserProvider = mock(CurrentUserProvider.class);
+
+        syncService = new SyncService(
+                projectRepository,
+                taskRepository,
+                syncTombstoneRepository,
+                workspaceMemberRepository,
+                currentUserProvider,
+                2000
+        );
+    }
+
+    @Test
+    void changes_whenStreamExceedsLimit_shouldTrimAndAdvanceEachStreamIndependently() {
+        UUID workspaceId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+        TaskView t1 = taskView(base.plusSeconds(1));
+        TaskView t2 = taskView(base.plusSeconds(2));
+        TaskView t3 = taskView(base.plusSeconds(3));
+        SyncPosition projectsPosition = new SyncPosition(base, UUID.randomUUID());
+        SyncWatermark since = new SyncWatermark(projectsPosition, SyncPosition.START, SyncPosition.START);
+
+        when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
+        when(workspaceMemberRepository.findRole(workspaceId, userId))
+                .thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
+        when(projectRepository.findChangedViews(eq(workspaceId), eq(base), eq(projectsPosition.id()), any(), eq(Limit.of(3))))
+                .thenReturn(List.of());
+        when(taskRepository.findChangedViews(eq(workspaceId), eq(SyncPosition.START.at()), eq(SyncPosition.START.id()), any(), eq(Limit.of(3))))
+                .thenReturn(List.of(t1, t2, t3));
+        when(syncTombstoneRepository.findChanged(eq(workspaceId), any(), any(), any(), eq(Limit.of(3))))
+                .thenReturn(List.of());
+
+        SyncBatch batch = syncService.changes(workspaceId, since, 2);
+
+        assertTrue(batch.hasMore());
+        assertEquals(List.of(t1, t2), batch.tasks());
+        assertEquals(new SyncPosition(t2.updatedAt(), t2.id()), batch.watermark().tasks());
+        assertEquals(projectsPosition, batch.watermark().projects());
+        assertEquals(SyncPosition.START, batch.watermark().tombstones());
+    }
+
+    @Test
+    void changes_shouldHoldBackRowsInsideSettleWindow() {
+        UUID workspaceId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
+        when(workspaceMemberRepository.findRole(workspaceId, userId))
+                .thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
+
+        LocalDateTime before = LocalDateTime.now();
+        syncService.changes(workspaceId, SyncWatermark.INITIAL, 10);
+
+        verify(projectRepository).findChangedViews(eq(workspaceId), any(), any(),
+                argThat(upTo -> !upTo.isAfter(before.minusSeconds(1))), eq(Limit.of(11)));
+    }
+
+    @Test
+    void changes_whenNotMember_shouldThrowNotFound() {
+        UUID workspaceId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
+        when(workspaceMemberRepository.findRole(workspaceId, userId)).thenReturn(Optional.empty());
+
+        NotFoundException ex = assertThrows(NotFoundException.class,
+                () -> syncService.changes(workspaceId, SyncWatermark.INITIAL, 10));
+        assertEquals("Workspace not found.", ex.getMessage());
+
+        verifyNoInteractions(projectRepository, taskRepository, syncTombstoneRepository);
+    }
+
+    private static TaskView taskView(LocalDateTime updatedAt) {
+        return new TaskView(UUID.randomUUID(), UUID.randomUUID(), "Task", null, TaskStatus.TODO,
+                null, UUID.randomUUID(), updatedAt, updatedAt);
+    }
+}
@@ -0,0 +1,84 @@
+package com.teamflow.teamflow.backend.sync.service;
+
+import com.teamflow.teamflow.backend.common.errors.BadRequestException;
+import com.teamflow.teamflow.backend.common.events.WorkspaceChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkspaceChangeRegistryTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private WorkspaceChangeRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new WorkspaceChangeRegistry(new SimpleMeterRegistry());
+    }
+
+    @Test
+    void change_shouldCompleteParkedRequestsOfThatWorkspaceOnly() {
+        UUID workspaceId = UUID.randomUUID();
+        UUID otherWorkspaceId = UUID.randomUUID();
+
+        DeferredResult<WorkspaceChanges> parked = registry.await(workspaceId, null, TIMEOUT);
+        DeferredResult<WorkspaceChanges> other = registry.await(otherWorkspaceId, null, TIMEOUT);
+        assertEquals(2, registry.parkedCount());
+
+        registry.onWorkspaceChanged(new WorkspaceChangedEvent(workspaceId));
+
+        assertTrue(parked.hasResult());
+        WorkspaceChanges changes = (WorkspaceChanges) parked.getResult();
+        assertTrue(changes.changed());
+        assertEquals(registry.currentToken(), changes.token());
+        assertFalse(other.hasResult());
+        assertEquals(1, registry.parkedCount());
+    }
+
+    @Test
+    void await_whenChangedSinceToken_shouldCompleteImmediately() {
+        UUID workspaceId = UUID.randomUUID();
+        String token = registry.currentToken();
+
+        registry.onWorkspaceChanged(new WorkspaceChangedEvent(workspaceId));
+        DeferredResult<WorkspaceChanges> result = registry.await(workspaceId, token, TIMEOUT);
+
+        assertTrue(result.hasResult());
+        assertTrue(((WorkspaceChanges) result.getResult()).changed());
+    }
+
+    @Test
+    void await_whenUpToDate_shouldPark() {
+        UUID workspaceId = UUID.randomUUID();
+        registry.onWorkspaceChanged(new WorkspaceChangedEvent(workspaceId));
+
+        DeferredResult<WorkspaceChanges> result = registry.await(workspaceId, registry.currentToken(), TIMEOUT);
+
+        assertFalse(result.hasResult());
+    }
+
+    @Test
+    void await_whenTokenFromOtherInstance_shouldPark() {
+        UUID workspaceId = UUID.randomUUID();
+        registry.onWorkspaceChanged(new WorkspaceChangedEvent(workspaceId));
+
+        DeferredResult<WorkspaceChanges> result = registry.await(workspaceId, "other.0", TIMEOUT);
+
+        assertFalse(result.hasResult());
+    }
+
+    @Test
+    void await_whenTokenMalformed_shouldThrowBadRequest() {
+        BadRequestException ex = assertThrows(BadRequestException.class,
+                () -> registry.await(UUID.randomUUID(), "garbage", TIMEOUT));
+
+        assertEquals("Invalid change token.", ex.getMessage());
+    }
+}
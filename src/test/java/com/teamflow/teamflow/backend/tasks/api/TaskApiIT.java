@@ -1,5 +1,9 @@
 package com.teamflow.teamflow.backend.tasks.api;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.jayway.jsonpath.JsonPath;
 import com.teamflow.teamflow.backend.auth.AuthTestHelper;
 import com.teamflow.teamflow.backend.auth.TestVerificationNotifier;
@@ -21,8 +25,13 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -142,6 +151,204 @@ class TaskApiIT extends IntegrationTestBase {
         org.junit.jupiter.api.Assertions.assertNotNull(t2);
     }
 
+    @Test
+    void listTasks_shouldNegotiateCborAndSmile() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+        UUID projectId = createProjectAndReturnId(workspaceId, "Project_" + UUID.randomUUID());
+        UUID taskId = createTaskAndReturnId(workspaceId, projectId, "Binary");
+
+        for (ObjectMapper mapper : List.of(new CBORMapper(), new SmileMapper())) {
+            MediaType mediaType = mapper instanceof CBORMapper
+                    ? MediaType.APPLICATION_CBOR
+                    : MediaType.valueOf("application/x-jackson-smile");
+
+            MvcResult result = mockMvc.perform(
+                            authorized(get("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks", workspaceId, projectId))
+                                    .accept(mediaType)
+                    )
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(mediaType))
+                    .andReturn();
+
+            JsonNode body = mapper.readTree(result.getResponse().getContentAsByteArray());
+            assertEquals(1, body.get("items").size());
+            assertEquals(taskId.toString(), body.get("items").get(0).get("id").asText());
+            assertEquals("Binary", body.get("items").get(0).get("title").asText());
+            assertEquals(1, body.get("meta").get("totalItems").asInt());
+        }
+    }
+
+    @Test
+    void board_shouldReturnAllColumns_withPerColumnLimitAndTotals() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+        UUID projectId = createProjectAndReturnId(workspaceId, "Project_" + UUID.randomUUID());
+
+        createTaskAndReturnId(workspaceId, projectId, "T1");
+        createTaskAndReturnId(workspaceId, projectId, "T2");
+        createTaskAndReturnId(workspaceId, projectId, "T3");
+        UUID doneId = createTaskAndReturnId(workspaceId, projectId, "D1");
+
+        mockMvc.perform(
+                        authorized(post("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks/{id}/status", workspaceId, projectId, doneId))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        { "status": "DONE" }
+                                        """)
+                )
+                .andExpect(status().isOk());
+
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks/board", workspaceId, projectId))
+                                .param("limit", "2")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columns.length()").value(3))
+                .andExpect(jsonPath("$.columns[0].status").value("TODO"))
+                .andExpect(jsonPath("$.columns[0].total").value(3))
+                .andExpect(jsonPath("$.columns[0].tasks.length()").value(2))
+                .andExpect(jsonPath("$.columns[0].tasks[0].title").value("T1"))
+                .andExpect(jsonPath("$.columns[0].tasks[1].title").value("T2"))
+                .andExpect(jsonPath("$.columns[1].status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.columns[1].total").value(0))
+                .andExpect(jsonPath("$.columns[1].tasks.length()").value(0))
+                .andExpect(jsonPath("$.columns[2].status").value("DONE"))
+                .andExpect(jsonPath("$.columns[2].total").value(1))
+                .andExpect(jsonPath("$.columns[2].tasks[0].id").value(doneId.toString()));
+    }
+
+    @Test
+    void board_whenLimitOutOfRange_shouldReturn400_andProblemDetail() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+        UUID projectId = createProjectAndReturnId(workspaceId, "Project_" + UUID.randomUUID());
+
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks/board", workspaceId, projectId))
+                                .param("limit", "0")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("limit must be between 1 and 100."));
+    }
+
+    @Test
+    void moveTask_shouldReorderColumn_andMoveAcrossColumns() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+        UUID projectId = createProjectAndReturnId(workspaceId, "Project_" + UUID.randomUUID());
+
+        UUID t1 = createTaskAndReturnId(workspaceId, projectId, "T1");
+        UUID t2 = createTaskAndReturnId(workspaceId, projectId, "T2");
+        UUID t3 = createTaskAndReturnId(workspaceId, projectId, "T3");
+
+        mockMvc.perform(
+                        authorized(post("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks/{id}/move", workspaceId, projectId, t3))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        { "afterTaskId": "%s", "beforeTaskId": "%s" }
+                                        """.formatted(t1, t2))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("TODO"));
+
+        mockMvc.perform(
+                        authorized(post("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks/{id}/move", workspaceId, projectId, t1))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        { "status": "IN_PROGRESS" }
+                                        """)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks", workspaceId, projectId))
+                                .param("status", "TODO")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(t3.toString()))
+                .andExpect(jsonPath("$.items[1].id").value(t2.toString()));
+
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks/board", workspaceId, projectId))
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columns[0].tasks[0].id").value(t3.toString()))
+                .andExpect(jsonPath("$.columns[1].tasks[0].id").value(t1.toString()));
+    }
+
+    @Test
+    void moveTask_withOnlyAfterTaskId_shouldLandDirectlyBelowIt() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+        UUID projectId = createProjectAndReturnId(workspaceId, "Project_" + UUID.randomUUID());
+
+        UUID t1 = createTaskAndReturnId(workspaceId, projectId, "T1");
+        UUID t2 = createTaskAndReturnId(workspaceId, projectId, "T2");
+        UUID t3 = createTaskAndReturnId(workspaceId, projectId, "T3");
+
+        mockMvc.perform(
+                        authorized(post("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks/{id}/move", workspaceId, projectId, t3))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        { "afterTaskId": "%s" }
+                                        """.formatted(t1))
+                )
+                .andExpect(status().isOk());
+
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks/board", workspaceId, projectId))
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columns[0].tasks[0].id").value(t1.toString()))
+                .andExpect(jsonPath("$.columns[0].tasks[1].id").value(t3.toString()))
+                .andExpect(jsonPath("$.columns[0].tasks[2].id").value(t2.toString()));
+
+        // Naming the same card on both sides is rejected by request validation.
+        mockMvc.perform(
+                        authorized(post("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks/{id}/move", workspaceId, projectId, t1))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        { "afterTaskId": "%s", "beforeTaskId": "%s" }
+                                        """.formatted(t3, t3))
+                )
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void moveTask_whenNeighbourInOtherColumn_shouldReturn400_andProblemDetail() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+        UUID projectId = createProjectAndReturnId(workspaceId, "Project_" + UUID.randomUUID());
+
+        UUID t1 = createTaskAndReturnId(workspaceId, projectId, "T1");
+        UUID t2 = createTaskAndReturnId(workspaceId, projectId, "T2");
+
+        mockMvc.perform(
+                        authorized(post("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks/{id}/move", workspaceId, projectId, t1))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        { "status": "DONE", "afterTaskId": "%s" }
+                                        """.formatted(t2))
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Neighbouring task is in a different column."));
+    }
+
+    @Test
+    void createTask_shouldAssignTimeOrderedIds() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+        UUID projectId = createProjectAndReturnId(workspaceId, "Project_" + UUID.randomUUID());
+        UUID first = createTaskAndReturnId(workspaceId, projectId, "First");
+        UUID second = createTaskAndReturnId(workspaceId, projectId, "Second");
+
+        assertEquals(7, workspaceId.version());
+        assertEquals(7, projectId.version());
+        assertEquals(7, first.version());
+        assertTrue(first.compareTo(second) < 0);
+    }
+
     @Test
     void getTaskById_shouldReturn200_andResponseBody() throws Exception {
         UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
@@ -160,6 +367,95 @@ class TaskApiIT extends IntegrationTestBase {
                 .andExpect(jsonPath("$.status").value("TODO"));
     }
 
+    @Test
+    void listAndGet_withFields_shouldReturnOnlyRequestedFields() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+        UUID projectId = createProjectAndReturnId(workspaceId, "Project_" + UUID.randomUUID());
+        UUID taskId = createTaskAndReturnId(workspaceId, projectId, "Hello");
+
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks", workspaceId, projectId))
+                                .param("fields", "title,status,assigneeUserId")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(taskId.toString()))
+                .andExpect(jsonPath("$.items[0].title").value("Hello"))
+                .andExpect(jsonPath("$.items[0].status").value("TODO"))
+                .andExpect(jsonPath("$.items[0].description").doesNotExist())
+                .andExpect(jsonPath("$.items[0].projectId").doesNotExist())
+                .andExpect(jsonPath("$.meta.totalItems").value(1));
+
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks/{id}", workspaceId, projectId, taskId))
+                                .param("fields", "title")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(taskId.toString()))
+                .andExpect(jsonPath("$.title").value("Hello"))
+                .andExpect(jsonPath("$.status").doesNotExist());
+    }
+
+    @Test
+    void list_withUnknownField_shouldReturn400_andProblemDetail() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+        UUID projectId = createProjectAndReturnId(workspaceId, "Project_" + UUID.randomUUID());
+
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/projects/{projectId}/tasks", workspaceId, projectId))
+                                .param("fields", "title,secret")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.detail").value(startsWith("Unknown field 'secret'.")));
+    }
+
+    @Test
+    void batchGet_shouldReturnTasksAcrossProjects_inRequestOrder_withNotFoundMarkers() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+        UUID projectA = createProjectAndReturnId(workspaceId, "Project_" + UUID.randomUUID());
+        UUID projectB = createProjectAndReturnId(workspaceId, "Project_" + UUID.randomUUID());
+        UUID taskA = createTaskAndReturnId(workspaceId, projectA, "A");
+        UUID taskB = createTaskAndReturnId(workspaceId, projectB, "B");
+
+        UUID otherWorkspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+        UUID otherProjectId = createProjectAndReturnId(otherWorkspaceId, "Project_" + UUID.randomUUID());
+        UUID foreignTask = createTaskAndReturnId(otherWorkspaceId, otherProjectId, "Foreign");
+        UUID missing = UUID.randomUUID();
+
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/tasks/batch", workspaceId))
+                                .param("ids", taskB + "," + missing + "," + taskA + "," + foreignTask)
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(4))
+                .andExpect(jsonPath("$.items[0].id").value(taskB.toString()))
+                .andExpect(jsonPath("$.items[0].found").value(true))
+                .andExpect(jsonPath("$.items[0].item.title").value("B"))
+                .andExpect(jsonPath("$.items[1].id").value(missing.toString()))
+                .andExpect(jsonPath("$.items[1].found").value(false))
+                .andExpect(jsonPath("$.items[2].item.projectId").value(projectA.toString()))
+                .andExpect(jsonPath("$.items[3].id").value(foreignTask.toString()))
+                .andExpect(jsonPath("$.items[3].found").value(false));
+    }
+
+    @Test
+    void batchGet_whenTooManyIds_shouldReturn400_andProblemDetail() throws Exception {
+        UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
+        String ids = String.join(",", Stream.generate(() -> UUID.randomUUID().toString()).limit(101).toList());
+
+        mockMvc.perform(
+                        authorized(get("/api/v1/workspaces/{workspaceId}/tasks/batch", workspaceId))
+                                .param("ids", ids)
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("ids must contain between 1 and 100 ids."));
+    }
+
     @Test
     void updateTask_shouldReturn200_andUpdatedFields() throws Exception {
         UUID workspaceId = createWorkspaceAndReturnId("Ws_" + UUID.randomUUID());
@@ -0,0 +1,91 @@
+package com.teamflow.teamflow.backend.tasks.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskRankTest {
+
+    @Test
+    void between_shouldReturnKeyStrictlyBetweenNeighbours() {
+        assertBetween(null, null);
+        assertBetween(null, "1");
+        assertBetween("a", "b");
+        assertBetween("0i", "1");
+        assertBetween("az", "b");
+        assertBetween("y", null);
+        assertBetween("zzz", null);
+    }
+
+    @Test
+    void between_whenNotOrdered_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> TaskRank.between("b", "a"));
+        assertThrows(IllegalArgumentException.class, () -> TaskRank.between("a", "a"));
+    }
+
+    @Test
+    void between_whenTrailingZero_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> TaskRank.between("a0", null));
+    }
+
+    @Test
+    void repeatedInsertsAtSameSpot_shouldStayBelowRebalanceLength() {
+        String lower = "a";
+        String upper = "b";
+        for (int i = 0; i < 20; i++) {
+            upper = assertBetween(lower, upper);
+        }
+        assertTrue(upper.length() <= TaskRank.REBALANCE_LENGTH);
+    }
+
+    @Test
+    void appendsAndPrepends_shouldKeepKeysShort() {
+        String last = null;
+        for (int i = 0; i < 10_000; i++) {
+            last = assertBetween(last, null);
+        }
+        assertEquals(4, last.length());
+
+        String first = "i";
+        for (int i = 0; i < 10_000; i++) {
+            first = assertBetween(null, first);
+        }
+        assertEquals(4, first.length());
+    }
+
+    @Test
+    void between_whenStepOverflows_shouldFallBackToMidpoint() {
+        assertEquals("zzzzi", TaskRank.between("zzzz", null));
+        assertBetween(null, "0001");
+    }
+
+    @Test
+    void spaced_shouldReturnShortAscendingKeys() {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            keys.add(TaskRank.spaced(i, 5000));
+        }
+
+        for (int i = 1; i < keys.size(); i++) {
+            assertTrue(keys.get(i - 1).compareTo(keys.get(i)) < 0);
+            assertFalse(keys.get(i).endsWith("0"));
+            assertTrue(keys.get(i).length() <= 4);
+        }
+        assertEquals("i", TaskRank.spaced(0, 1));
+    }
+
+    private static String assertBetween(String lower, String upper) {
+        String rank = TaskRank.between(lower, upper);
+        if (lower != null) {
+            assertTrue(rank.compareTo(lower) > 0, rank + " should be after " + lower);
+        }
+        if (upper != null) {
+            assertTrue(rank.compareTo(upper) < 0, rank + " should be before " + upper);
+        }
+        assertFalse(rank.endsWith("0"));
+        return rank;
+    }
+}
@@ -0,0 +1,79 @@
+package com.teamflow.teamflow.backend.tasks.service;
+
+import com.teamflow.teamflow.backend.seed.BulkDataSeeder;
+import com.teamflow.teamflow.backend.seed.SeedPlan;
+import com.teamflow.teamflow.backend.support.IntegrationTestBase;
+import com.teamflow.teamflow.backend.tasks.domain.TaskRank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class TaskRankRebalancerIT extends IntegrationTestBase {
+
+    @Autowired
+    TaskRankRebalancer rebalancer;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        cleanDatabase();
+        new BulkDataSeeder(dataSource, passwordEncoder)
+                .seed(new SeedPlan("rb", 5, 1, 1, 40, 2, 5, 0.0, 11L, "password123"));
+    }
+
+    @Test
+    void rebalance_shouldShortenLongRanks_keepingOrder_withoutTouchingUpdatedAt() {
+        UUID projectId = jdbcTemplate.queryForObject("SELECT id FROM projects", UUID.class);
+        Timestamp updatedBefore = latestUpdate(projectId);
+
+        // Keys grown past the rebalance length, as repeated moves into the same gap produce.
+        jdbcTemplate.update("""
+                UPDATE tasks t SET rank = ranked.rank
+                FROM (SELECT id, lpad(to_hex(row_number() OVER (ORDER BY rank, id)), 6, '0') || repeat('i', 40) AS rank
+                      FROM tasks WHERE project_id = ? AND status = 'TODO') ranked
+                WHERE ranked.id = t.id
+                """, projectId);
+        List<UUID> order = columnOrder(projectId);
+
+        rebalancer.rebalance();
+
+        assertEquals(order, columnOrder(projectId));
+        assertTrue(longestRank(projectId) <= TaskRank.REBALANCE_LENGTH);
+        assertEquals(updatedBefore, latestUpdate(projectId));
+    }
+
+    private List<UUID> columnOrder(UUID projectId) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM tasks WHERE project_id = ? AND status = 'TODO' ORDER BY rank, id", UUID.class, projectId);
+    }
+
+    private int longestRank(UUID projectId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT max(length(rank)) FROM tasks WHERE project_id = ? AND status = 'TODO'", Integer.class, projectId);
+    }
+
+    private Timestamp latestUpdate(UUID projectId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT max(updated_at) FROM tasks WHERE project_id = ?", Timestamp.class, projectId);
+    }
+}
@@ -1,24 +1,31 @@
 package com.teamflow.teamflow.backend.tasks.service;
 
 import com.teamflow.teamflow.backend.common.errors.BadRequestException;
+import com.teamflow.teamflow.backend.common.errors.ConflictException;
 import com.teamflow.teamflow.backend.common.errors.NotFoundException;
+import com.teamflow.teamflow.backend.common.events.WorkspaceChangedEvent;
 import com.teamflow.teamflow.backend.common.security.CurrentUserProvider;
 import com.teamflow.teamflow.backend.projects.domain.Project;
 import com.teamflow.teamflow.backend.projects.repo.ProjectRepository;
 import com.teamflow.teamflow.backend.tasks.domain.Task;
 import com.teamflow.teamflow.backend.tasks.domain.TaskStatus;
+import com.teamflow.teamflow.backend.tasks.repo.TaskBoardColumn;
 import com.teamflow.teamflow.backend.tasks.repo.TaskRepository;
+import com.teamflow.teamflow.backend.tasks.repo.TaskView;
 import com.teamflow.teamflow.backend.workspaces.domain.WorkspaceMemberRole;
 import com.teamflow.teamflow.backend.workspaces.repo.WorkspaceMemberRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,6 +37,7 @@ class TaskServiceTest {
     private ProjectRepository projectRepository;
     private WorkspaceMemberRepository workspaceMemberRepository;
     private CurrentUserProvider currentUserProvider;
+    private ApplicationEventPublisher eventPublisher;
 
     private TaskService taskService;
 
@@ -40,7 +48,15 @@ class TaskServiceTest {
         workspaceMemberRepository = mock(WorkspaceMemberRepository.class);
         currentUserProvider = mock(CurrentUserProvider.class);
 
-        taskService = new TaskService(taskRepository, projectRepository, workspaceMemberRepository, currentUserProvider);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+
+        taskService = new TaskService(
+                taskRepository,
+                projectRepository,
+                workspaceMemberRepository,
+                currentUserProvider,
+                eventPublisher
+        );
     }
 
     @Test
@@ -54,23 +70,29 @@ class TaskServiceTest {
                 .thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
         when(projectRepository.findByIdAndWorkspaceId(projectId, workspaceId))
                 .thenReturn(Optional.of(mock(Project.class)));
+        when(taskRepository.findLastRank(projectId, TaskStatus.TODO)).thenReturn(Optional.of("i"));
         when(taskRepository.save(any(Task.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
         Task result = taskService.create(workspaceId, projectId, "  Title  ", "  Desc  ");
 
         assertNotNull(result);
+        assertEquals(workspaceId, result.getWorkspaceId());
         assertEquals(projectId, result.getProjectId());
         assertEquals("Title", result.getTitle());
         assertEquals("Desc", result.getDescription());
         assertEquals(TaskStatus.TODO, result.getStatus());
         assertEquals(userId, result.getCreatedBy());
+        assertTrue(result.getRank().compareTo("i") > 0);
 
         verify(currentUserProvider).getCurrentUserId();
         verify(workspaceMemberRepository).findRole(workspaceId, userId);
         verify(projectRepository).findByIdAndWorkspaceId(projectId, workspaceId);
+        verify(projectRepository).lockById(projectId);
+        verify(taskRepository).findLastRank(projectId, TaskStatus.TODO);
         verify(taskRepository).save(any(Task.class));
-        verifyNoMoreInteractions(taskRepository, projectRepository, workspaceMemberRepository, currentUserProvider);
+        verify(eventPublisher).publishEvent(new WorkspaceChangedEvent(workspaceId));
+        verifyNoMoreInteractions(taskRepository, projectRepository, workspaceMemberRepository, currentUserProvider, eventPublisher);
     }
 
     @Test
@@ -148,6 +170,76 @@ class TaskServiceTest {
         verifyNoInteractions(taskRepository);
     }
 
+    @Test
+    void getView_whenTaskMissing_shouldThrowNotFound() {
+        UUID workspaceId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
+        when(workspaceMemberRepository.findRole(workspaceId, userId))
+                .thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
+        when(projectRepository.findByIdAndWorkspaceId(projectId, workspaceId))
+                .thenReturn(Optional.of(mock(Project.class)));
+        when(taskRepository.findViewByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId, false))
+                .thenReturn(Optional.empty());
+
+        NotFoundException exception = assertThrows(
+                NotFoundException.class,
+                () -> taskService.getView(workspaceId, projectId, taskId, false)
+        );
+
+        assertEquals("Task not found.", exception.getMessage());
+
+        verify(taskRepository).findViewByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId, false);
+        verifyNoMoreInteractions(taskRepository);
+    }
+
+    @Test
+    void getByIds_whenMember_shouldQueryWorkspaceOnceWithDistinctIds() {
+        UUID workspaceId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+
+        TaskView t1 = taskView(UUID.randomUUID(), "A", TaskStatus.TODO, userId);
+
+        when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
+        when(workspaceMemberRepository.findRole(workspaceId, userId))
+                .thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
+        when(taskRepository.findViewsByIdInWorkspace(workspaceId, Set.of(id1, id2)))
+                .thenReturn(List.of(t1));
+
+        List<TaskView> result = taskService.getByIds(workspaceId, List.of(id1, id2, id1));
+
+        assertEquals(List.of(t1), result);
+
+        verify(currentUserProvider).getCurrentUserId();
+        verify(workspaceMemberRepository).findRole(workspaceId, userId);
+        verify(taskRepository).findViewsByIdInWorkspace(workspaceId, Set.of(id1, id2));
+        verifyNoMoreInteractions(taskRepository, workspaceMemberRepository, currentUserProvider);
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    void getByIds_whenNotMember_shouldThrowNotFound() {
+        UUID workspaceId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
+        when(workspaceMemberRepository.findRole(workspaceId, userId))
+                .thenReturn(Optional.empty());
+
+        NotFoundException exception = assertThrows(
+                NotFoundException.class,
+                () -> taskService.getByIds(workspaceId, List.of(UUID.randomUUID()))
+        );
+
+        assertEquals("Workspace not found.", exception.getMessage());
+        verifyNoInteractions(taskRepository, projectRepository);
+    }
+
     @Test
     void list_whenMemberAndStatusNull_shouldReturnPage() {
         UUID workspaceId = UUID.randomUUID();
@@ -155,19 +247,19 @@ class TaskServiceTest {
         UUID userId = UUID.randomUUID();
         Pageable pageable = PageRequest.of(0, 10);
 
-        Task t1 = new Task(projectId, "A", null, userId);
-        Task t2 = new Task(projectId, "B", null, userId);
-        Page<Task> repoPage = new PageImpl<>(List.of(t1, t2), pageable, 2);
+        TaskView t1 = taskView(projectId, "A", TaskStatus.TODO, userId);
+        TaskView t2 = taskView(projectId, "B", TaskStatus.TODO, userId);
+        Page<TaskView> repoPage = new PageImpl<>(List.of(t1, t2), pageable, 2);
 
         when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
         when(workspaceMemberRepository.findRole(workspaceId, userId))
                 .thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
         when(projectRepository.findByIdAndWorkspaceId(projectId, workspaceId))
                 .thenReturn(Optional.of(mock(Project.class)));
-        when(taskRepository.findAllByProjectId(projectId, pageable))
+        when(taskRepository.findViewsByProjectId(projectId, true, pageable))
                 .thenReturn(repoPage);
 
-        Page<Task> result = taskService.list(workspaceId, projectId, null, pageable);
+        Page<TaskView> result = taskService.list(workspaceId, projectId, null, true, pageable);
 
         assertSame(repoPage, result);
         assertEquals(2, result.getTotalElements());
@@ -175,7 +267,7 @@ class TaskServiceTest {
         verify(currentUserProvider).getCurrentUserId();
         verify(workspaceMemberRepository).findRole(workspaceId, userId);
         verify(projectRepository).findByIdAndWorkspaceId(projectId, workspaceId);
-        verify(taskRepository).findAllByProjectId(projectId, pageable);
+        verify(taskRepository).findViewsByProjectId(projectId, true, pageable);
         verifyNoMoreInteractions(taskRepository, projectRepository, workspaceMemberRepository, currentUserProvider);
     }
 
@@ -186,19 +278,18 @@ class TaskServiceTest {
         UUID userId = UUID.randomUUID();
         Pageable pageable = PageRequest.of(0, 10);
 
-        Task t1 = new Task(projectId, "A", null, userId);
-        t1.changeStatus(TaskStatus.IN_PROGRESS);
-        Page<Task> repoPage = new PageImpl<>(List.of(t1), pageable, 1);
+        TaskView t1 = taskView(projectId, "A", TaskStatus.IN_PROGRESS, userId);
+        Page<TaskView> repoPage = new PageImpl<>(List.of(t1), pageable, 1);
 
         when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
         when(workspaceMemberRepository.findRole(workspaceId, userId))
                 .thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
         when(projectRepository.findByIdAndWorkspaceId(projectId, workspaceId))
                 .thenReturn(Optional.of(mock(Project.class)));
-        when(taskRepository.findAllByProjectIdAndStatus(projectId, TaskStatus.IN_PROGRESS, pageable))
+        when(taskRepository.findViewsByProjectIdAndStatus(projectId, TaskStatus.IN_PROGRESS, false, pageable))
                 .thenReturn(repoPage);
 
-        Page<Task> result = taskService.list(workspaceId, projectId, TaskStatus.IN_PROGRESS, pageable);
+        Page<TaskView> result = taskService.list(workspaceId, projectId, TaskStatus.IN_PROGRESS, false, pageable);
 
         assertSame(repoPage, result);
         assertEquals(1, result.getTotalElements());
@@ -206,25 +297,71 @@ class TaskServiceTest {
         verify(currentUserProvider).getCurrentUserId();
         verify(workspaceMemberRepository).findRole(workspaceId, userId);
         verify(projectRepository).findByIdAndWorkspaceId(projectId, workspaceId);
-        verify(taskRepository).findAllByProjectIdAndStatus(projectId, TaskStatus.IN_PROGRESS, pageable);
+        verify(taskRepository).findViewsByProjectIdAndStatus(projectId, TaskStatus.IN_PROGRESS, false, pageable);
         verifyNoMoreInteractions(taskRepository, projectRepository, workspaceMemberRepository, currentUserProvider);
     }
 
     @Test
-    void getById_whenTaskExists_shouldReturnTask() {
+    void board_whenMember_shouldReturnColumnsFromSingleQuery() {
         UUID workspaceId = UUID.randomUUID();
         UUID projectId = UUID.randomUUID();
-        UUID taskId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
 
-        Task task = new Task(projectId, "Title", null, userId);
+        List<TaskBoardColumn> columns = List.of(
+                new TaskBoardColumn(TaskStatus.TODO, 3, List.of(taskView(projectId, "A", TaskStatus.TODO, userId))),
+                TaskBoardColumn.empty(TaskStatus.IN_PROGRESS),
+                TaskBoardColumn.empty(TaskStatus.DONE)
+        );
 
         when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
         when(workspaceMemberRepository.findRole(workspaceId, userId))
                 .thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
         when(projectRepository.findByIdAndWorkspaceId(projectId, workspaceId))
                 .thenReturn(Optional.of(mock(Project.class)));
-        when(taskRepository.findByIdAndProjectId(taskId, projectId))
+        when(taskRepository.findBoard(projectId, 1)).thenReturn(columns);
+
+        List<TaskBoardColumn> result = taskService.board(workspaceId, projectId, 1);
+
+        assertSame(columns, result);
+
+        verify(currentUserProvider).getCurrentUserId();
+        verify(workspaceMemberRepository).findRole(workspaceId, userId);
+        verify(projectRepository).findByIdAndWorkspaceId(projectId, workspaceId);
+        verify(taskRepository).findBoard(projectId, 1);
+        verifyNoMoreInteractions(taskRepository, projectRepository, workspaceMemberRepository, currentUserProvider);
+    }
+
+    @Test
+    void board_whenNotMember_shouldThrowNotFound() {
+        UUID workspaceId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
+        when(workspaceMemberRepository.findRole(workspaceId, userId)).thenReturn(Optional.empty());
+
+        NotFoundException ex = assertThrows(NotFoundException.class,
+                () -> taskService.board(workspaceId, projectId, 20));
+        assertEquals("Workspace not found.", ex.getMessage());
+
+        verify(currentUserProvider).getCurrentUserId();
+        verify(workspaceMemberRepository).findRole(workspaceId, userId);
+        verifyNoMoreInteractions(taskRepository, projectRepository, workspaceMemberRepository, currentUserProvider);
+    }
+
+    @Test
+    void getById_whenTaskExists_shouldReturnTask() {
+        UUID workspaceId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        Task task = new Task(workspaceId, projectId, "Title", null, userId);
+
+        when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
+        when(workspaceMemberRepository.findRole(workspaceId, userId))
+                .thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
+        when(taskRepository.findByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId))
                 .thenReturn(Optional.of(task));
 
         Task result = taskService.getById(workspaceId, projectId, taskId);
@@ -233,8 +370,7 @@ class TaskServiceTest {
 
         verify(currentUserProvider).getCurrentUserId();
         verify(workspaceMemberRepository).findRole(workspaceId, userId);
-        verify(projectRepository).findByIdAndWorkspaceId(projectId, workspaceId);
-        verify(taskRepository).findByIdAndProjectId(taskId, projectId);
+        verify(taskRepository).findByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId);
         verifyNoMoreInteractions(taskRepository, projectRepository, workspaceMemberRepository, currentUserProvider);
     }
 
@@ -250,7 +386,7 @@ class TaskServiceTest {
                 .thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
         when(projectRepository.findByIdAndWorkspaceId(projectId, workspaceId))
                 .thenReturn(Optional.of(mock(Project.class)));
-        when(taskRepository.findByIdAndProjectId(taskId, projectId))
+        when(taskRepository.findByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId))
                 .thenReturn(Optional.empty());
 
         NotFoundException exception = assertThrows(
@@ -263,7 +399,36 @@ class TaskServiceTest {
         verify(currentUserProvider).getCurrentUserId();
         verify(workspaceMemberRepository).findRole(workspaceId, userId);
         verify(projectRepository).findByIdAndWorkspaceId(projectId, workspaceId);
-        verify(taskRepository).findByIdAndProjectId(taskId, projectId);
+        verify(taskRepository).findByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId);
+        verifyNoMoreInteractions(taskRepository, projectRepository, workspaceMemberRepository, currentUserProvider);
+    }
+
+    @Test
+    void getById_whenProjectNotInWorkspace_shouldThrowProjectNotFound() {
+        UUID workspaceId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
+        when(workspaceMemberRepository.findRole(workspaceId, userId))
+                .thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
+        when(taskRepository.findByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId))
+                .thenReturn(Optional.empty());
+        when(projectRepository.findByIdAndWorkspaceId(projectId, workspaceId))
+                .thenReturn(Optional.empty());
+
+        NotFoundException exception = assertThrows(
+                NotFoundException.class,
+                () -> taskService.getById(workspaceId, projectId, taskId)
+        );
+
+        assertEquals("Project not found.", exception.getMessage());
+
+        verify(currentUserProvider).getCurrentUserId();
+        verify(workspaceMemberRepository).findRole(workspaceId, userId);
+        verify(taskRepository).findByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId);
+        verify(projectRepository).findByIdAndWorkspaceId(projectId, workspaceId);
         verifyNoMoreInteractions(taskRepository, projectRepository, workspaceMemberRepository, currentUserProvider);
     }
 
@@ -274,14 +439,12 @@ class TaskServiceTest {
         UUID taskId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
 
-        Task task = new Task(projectId, "Old", "OldDesc", userId);
+        Task task = new Task(workspaceId, projectId, "Old", "OldDesc", userId);
 
         when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
         when(workspaceMemberRepository.findRole(workspaceId, userId))
                 .thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
-        when(projectRepository.findByIdAndWorkspaceId(projectId, workspaceId))
-                .thenReturn(Optional.of(mock(Project.class)));
-        when(taskRepository.findByIdAndProjectId(taskId, projectId))
+        when(taskRepository.findByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId))
                 .thenReturn(Optional.of(task));
 
         Task result = taskService.update(workspaceId, projectId, taskId, " New ", "  NewDesc  ");
@@ -292,8 +455,7 @@ class TaskServiceTest {
 
         verify(currentUserProvider).getCurrentUserId();
         verify(workspaceMemberRepository).findRole(workspaceId, userId);
-        verify(projectRepository).findByIdAndWorkspaceId(projectId, workspaceId);
-        verify(taskRepository).findByIdAndProjectId(taskId, projectId);
+        verify(taskRepository).findByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId);
         verifyNoMoreInteractions(taskRepository, projectRepository, workspaceMemberRepository, currentUserProvider);
     }
 
@@ -304,14 +466,12 @@ class TaskServiceTest {
         UUID taskId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
 
-        Task task = new Task(projectId, "Old", null, userId);
+        Task task = new Task(workspaceId, projectId, "Old", null, userId);
 
         when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
         when(workspaceMemberRepository.findRole(workspaceId, userId))
                 .thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
-        when(projectRepository.findByIdAndWorkspaceId(projectId, workspaceId))
-                .thenReturn(Optional.of(mock(Project.class)));
-        when(taskRepository.findByIdAndProjectId(taskId, projectId))
+        when(taskRepository.findByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId))
                 .thenReturn(Optional.of(task));
 
         BadRequestException exception = assertThrows(
@@ -323,11 +483,184 @@ class TaskServiceTest {
 
         verify(currentUserProvider).getCurrentUserId();
         verify(workspaceMemberRepository).findRole(workspaceId, userId);
-        verify(projectRepository).findByIdAndWorkspaceId(projectId, workspaceId);
-        verify(taskRepository).findByIdAndProjectId(taskId, projectId);
+        verify(taskRepository).findByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId);
+        verifyNoMoreInteractions(taskRepository, projectRepository, workspaceMemberRepository, currentUserProvider);
+    }
+
+    @Test
+    void changeStatus_whenStatusChanges_shouldAppendToTargetColumn() {
+        UUID workspaceId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        Task task = new Task(workspaceId, projectId, "Title", null, userId);
+        task.moveTo(TaskStatus.TODO, "i");
+
+        when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
+        when(workspaceMemberRepository.findRole(workspaceId, userId))
+                .thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
+        when(taskRepository.findByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId))
+                .thenReturn(Optional.of(task));
+        when(taskRepository.findLastRank(projectId, TaskStatus.DONE)).thenReturn(Optional.empty());
+
+        Task result = taskService.changeStatus(workspaceId, projectId, taskId, TaskStatus.DONE);
+
+        assertEquals(TaskStatus.DONE, result.getStatus());
+        assertNotNull(result.getRank());
+
+        verify(currentUserProvider).getCurrentUserId();
+        verify(workspaceMemberRepository).findRole(workspaceId, userId);
+        verify(taskRepository).findByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId);
+        verify(projectRepository).lockById(projectId);
+        verify(taskRepository).findLastRank(projectId, TaskStatus.DONE);
         verifyNoMoreInteractions(taskRepository, projectRepository, workspaceMemberRepository, currentUserProvider);
     }
 
+    @Test
+    void changeStatus_whenStatusUnchanged_shouldNotPublishChange() {
+        UUID workspaceId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        Task task = new Task(workspaceId, projectId, "Title", null, userId);
+        task.moveTo(TaskStatus.TODO, "i");
+
+        when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
+        when(workspaceMemberRepository.findRole(workspaceId, userId))
+                .thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
+        when(taskRepository.findByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId))
+                .thenReturn(Optional.of(task));
+
+        Task result = taskService.changeStatus(workspaceId, projectId, taskId, TaskStatus.TODO);
+
+        assertEquals(TaskStatus.TODO, result.getStatus());
+        assertEquals("i", result.getRank());
+
+        verify(taskRepository).findByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId);
+        verifyNoMoreInteractions(taskRepository, projectRepository);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void move_betweenNeighbours_shouldRankBetweenThem() {
+        UUID workspaceId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+        UUID afterId = UUID.randomUUID();
+        UUID beforeId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        Task task = rankedTask(projectId, TaskStatus.TODO, "z", userId);
+        Task after = rankedTask(projectId, TaskStatus.IN_PROGRESS, "a", userId);
+        Task before = rankedTask(projectId, TaskStatus.IN_PROGRESS, "b", userId);
+
+        when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
+        when(workspaceMemberRepository.findRole(workspaceId, userId))
+                .thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
+        when(taskRepository.findByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId)).thenReturn(Optional.of(task));
+        when(taskRepository.findNeighbour(afterId, projectId)).thenReturn(Optional.of(after));
+        when(taskRepository.findNeighbour(beforeId, projectId)).thenReturn(Optional.of(before));
+
+        Task result = taskService.move(workspaceId, projectId, taskId, TaskStatus.IN_PROGRESS, afterId, beforeId);
+
+        assertEquals(TaskStatus.IN_PROGRESS, result.getStatus());
+        assertTrue(result.getRank().compareTo("a") > 0);
+        assertTrue(result.getRank().compareTo("b") < 0);
+
+        verify(currentUserProvider).getCurrentUserId();
+        verify(workspaceMemberRepository).findRole(workspaceId, userId);
+        verify(taskRepository).findByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId);
+        verify(projectRepository).lockById(projectId);
+        verify(taskRepository).findNeighbour(afterId, projectId);
+        verify(taskRepository).findNeighbour(beforeId, projectId);
+        verifyNoMoreInteractions(taskRepository, projectRepository, workspaceMemberRepository, currentUserProvider);
+    }
+
+    @Test
+    void move_whenOnlyAfterGiven_shouldRankAboveNextCard() {
+        UUID workspaceId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+        UUID afterId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        Task task = rankedTask(projectId, TaskStatus.DONE, "z", userId);
+        Task after = rankedTask(projectId, TaskStatus.TODO, "a001", userId);
+
+        when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
+        when(workspaceMemberRepository.findRole(workspaceId, userId))
+                .thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
+        when(taskRepository.findByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId)).thenReturn(Optional.of(task));
+        when(taskRepository.findNeighbour(afterId, projectId)).thenReturn(Optional.of(after));
+        when(taskRepository.findNextRank(projectId, TaskStatus.TODO, "a001", taskId)).thenReturn(Optional.of("a002"));
+
+        Task result = taskService.move(workspaceId, projectId, taskId, TaskStatus.TODO, afterId, null);
+
+        assertEquals(TaskStatus.TODO, result.getStatus());
+        assertTrue(result.getRank().compareTo("a001") > 0);
+        assertTrue(result.getRank().compareTo("a002") < 0);
+
+        verify(projectRepository).lockById(projectId);
+        verify(taskRepository).findNextRank(projectId, TaskStatus.TODO, "a001", taskId);
+    }
+
+    @Test
+    void move_whenNeighbourInOtherColumn_shouldThrowBadRequest() {
+        UUID workspaceId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+        UUID afterId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        Task task = rankedTask(projectId, TaskStatus.TODO, "i", userId);
+        Task after = rankedTask(projectId, TaskStatus.DONE, "a", userId);
+
+        when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
+        when(workspaceMemberRepository.findRole(workspaceId, userId))
+                .thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
+        when(taskRepository.findByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId)).thenReturn(Optional.of(task));
+        when(taskRepository.findNeighbour(afterId, projectId)).thenReturn(Optional.of(after));
+
+        BadRequestException exception = assertThrows(
+                BadRequestException.class,
+                () -> taskService.move(workspaceId, projectId, taskId, null, afterId, null)
+        );
+
+        assertEquals("Neighbouring task is in a different column.", exception.getMessage());
+        assertEquals("i", task.getRank());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void move_whenNeighboursOutOfOrder_shouldThrowConflict() {
+        UUID workspaceId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+        UUID afterId = UUID.randomUUID();
+        UUID beforeId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        Task task = rankedTask(projectId, TaskStatus.TODO, "z", userId);
+
+        when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
+        when(workspaceMemberRepository.findRole(workspaceId, userId))
+                .thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
+        when(taskRepository.findByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId)).thenReturn(Optional.of(task));
+        when(taskRepository.findNeighbour(afterId, projectId))
+                .thenReturn(Optional.of(rankedTask(projectId, TaskStatus.TODO, "m", userId)));
+        when(taskRepository.findNeighbour(beforeId, projectId))
+                .thenReturn(Optional.of(rankedTask(projectId, TaskStatus.TODO, "c", userId)));
+
+        ConflictException exception = assertThrows(
+                ConflictException.class,
+                () -> taskService.move(workspaceId, projectId, taskId, null, afterId, beforeId)
+        );
+
+        assertEquals("Board order has changed; reload and retry.", exception.getMessage());
+    }
+
     @Test
     void changeStatus_whenNullStatus_shouldThrowBadRequest() {
         UUID workspaceId = UUID.randomUUID();
@@ -371,8 +704,6 @@ class TaskServiceTest {
         when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
         when(workspaceMemberRepository.findRole(workspaceId, userId))
                 .thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
-        when(projectRepository.findByIdAndWorkspaceId(projectId, workspaceId))
-                .thenReturn(Optional.of(mock(Project.class)));
         when(workspaceMemberRepository.existsByIdWorkspaceIdAndIdUserId(workspaceId, assigneeId))
                 .thenReturn(false);
 
@@ -385,10 +716,9 @@ class TaskServiceTest {
 
         verify(currentUserProvider).getCurrentUserId();
         verify(workspaceMemberRepository).findRole(workspaceId, userId);
-        verify(projectRepository).findByIdAndWorkspaceId(projectId, workspaceId);
         verify(workspaceMemberRepository).existsByIdWorkspaceIdAndIdUserId(workspaceId, assigneeId);
-        verifyNoMoreInteractions(projectRepository, workspaceMemberRepository, currentUserProvider);
-        verifyNoInteractions(taskRepository);
+        verifyNoMoreInteractions(workspaceMemberRepository, currentUserProvider);
+        verifyNoInteractions(taskRepository, projectRepository);
     }
 
     @Test
@@ -399,15 +729,13 @@ class TaskServiceTest {
         UUID userId = UUID.randomUUID();
         UUID assigneeId = UUID.randomUUID();
 
-        Task task = new Task(projectId, "Title", null, userId);
+        Task task = new Task(workspaceId, projectId, "Title", null, userId);
         task.assignTo(assigneeId);
 
         when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
         when(workspaceMemberRepository.findRole(workspaceId, userId))
                 .thenReturn(Optional.of(WorkspaceMemberRole.MEMBER));
-        when(projectRepository.findByIdAndWorkspaceId(projectId, workspaceId))
-                .thenReturn(Optional.of(mock(Project.class)));
-        when(taskRepository.findByIdAndProjectId(taskId, projectId))
+        when(taskRepository.findByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId))
                 .thenReturn(Optional.of(task));
 
         Task result = taskService.unassign(workspaceId, projectId, taskId);
@@ -417,8 +745,18 @@ class TaskServiceTest {
 
         verify(currentUserProvider).getCurrentUserId();
         verify(workspaceMemberRepository).findRole(workspaceId, userId);
-        verify(projectRepository).findByIdAndWorkspaceId(projectId, workspaceId);
-        verify(taskRepository).findByIdAndProjectId(taskId, projectId);
+        verify(taskRepository).findByIdAndProjectIdAndWorkspaceId(taskId, projectId, workspaceId);
         verifyNoMoreInteractions(taskRepository, projectRepository, workspaceMemberRepository, currentUserProvider);
     }
+
+    private static Task rankedTask(UUID projectId, TaskStatus status, String rank, UUID createdBy) {
+        Task task = new Task(UUID.randomUUID(), projectId, "Title", null, createdBy);
+        task.moveTo(status, rank);
+        return task;
+    }
+
+    private static TaskView taskView(UUID projectId, String title, TaskStatus status, UUID createdBy) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TaskView(UUID.randomUUID(), projectId, title, null, status, null, createdBy, now, now);
+    }
 }
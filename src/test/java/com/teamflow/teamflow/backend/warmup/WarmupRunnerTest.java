@@ -0,0 +1,72 @@
+package com.teamflow.teamflow.backend.warmup;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WarmupRunnerTest {
+
+    @Test
+    void run_shouldRepeatStepsForIterationBudget() {
+        AtomicInteger first = new AtomicInteger();
+        AtomicInteger second = new AtomicInteger();
+        WarmupRunner runner = new WarmupRunner(List.of(
+                new WarmupRunner.Step("first", first::incrementAndGet),
+                new WarmupRunner.Step("second", second::incrementAndGet)
+        ), true, 5, Duration.ofMinutes(1));
+
+        runner.run(null);
+
+        assertEquals(5, first.get());
+        assertEquals(5, second.get());
+    }
+
+    @Test
+    void run_whenStepFails_shouldDropItAndKeepOthers() {
+        AtomicInteger failing = new AtomicInteger();
+        AtomicInteger healthy = new AtomicInteger();
+        WarmupRunner runner = new WarmupRunner(List.of(
+                new WarmupRunner.Step("failing", () -> {
+                    failing.incrementAndGet();
+                    throw new IllegalStateException("boom");
+                }),
+                new WarmupRunner.Step("healthy", healthy::incrementAndGet)
+        ), true, 3, Duration.ofMinutes(1));
+
+        assertDoesNotThrow(() -> runner.run(null));
+
+        assertEquals(1, failing.get());
+        assertEquals(3, healthy.get());
+    }
+
+    @Test
+    void run_shouldStopWhenTimeBudgetIsSpent() {
+        AtomicInteger calls = new AtomicInteger();
+        WarmupRunner runner = new WarmupRunner(List.of(
+                new WarmupRunner.Step("slow", () -> {
+                    calls.incrementAndGet();
+                    Thread.sleep(20);
+                })
+        ), true, 1_000, Duration.ofMillis(50));
+
+        runner.run(null);
+
+        assertTrue(calls.get() < 10, "ran " + calls.get() + " rounds");
+    }
+
+    @Test
+    void run_whenDisabled_shouldDoNothing() {
+        AtomicInteger calls = new AtomicInteger();
+        WarmupRunner runner = new WarmupRunner(List.of(
+                new WarmupRunner.Step("step", calls::incrementAndGet)
+        ), false, 5, Duration.ofMinutes(1));
+
+        runner.run(null);
+
+        assertEquals(0, calls.get());
+    }
+}
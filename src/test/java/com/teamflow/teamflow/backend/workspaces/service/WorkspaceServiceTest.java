@@ -11,6 +11,7 @@ import com.teamflow.teamflow.backend.workspaces.domain.WorkspaceMemberRole;
 import com.teamflow.teamflow.backend.workspaces.domain.WorkspaceStatus;
 import com.teamflow.teamflow.backend.workspaces.repo.WorkspaceMemberRepository;
 import com.teamflow.teamflow.backend.workspaces.repo.WorkspaceRepository;
+import com.teamflow.teamflow.backend.workspaces.repo.WorkspaceView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
@@ -18,6 +19,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -98,16 +100,16 @@ public class WorkspaceServiceTest {
     void getWorkspaces_shouldReturnActivePageFromRepository() {
         UUID userId = UUID.randomUUID();
         Pageable pageable = PageRequest.of(0, 10);
-        Workspace ws1 = new Workspace("A");
-        Workspace ws2 = new Workspace("B");
-        Page<Workspace> repoPage = new PageImpl<>(List.of(ws1, ws2), pageable, 2);
+        WorkspaceView ws1 = workspaceView("A", WorkspaceStatus.ACTIVE);
+        WorkspaceView ws2 = workspaceView("B", WorkspaceStatus.ACTIVE);
+        Page<WorkspaceView> repoPage = new PageImpl<>(List.of(ws1, ws2), pageable, 2);
 
         when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
 
         when(workspaceRepository.findAllByMemberAndStatus(userId, WorkspaceStatus.ACTIVE, pageable))
                 .thenReturn(repoPage);
 
-        Page<Workspace> result = workspaceService.getWorkspaces(pageable);
+        Page<WorkspaceView> result = workspaceService.getWorkspaces(pageable);
 
         assertSame(repoPage, result);
         assertEquals(2, result.getTotalElements());
@@ -122,18 +124,16 @@ public class WorkspaceServiceTest {
     void getClosedWorkspaces_shouldReturnClosedPageFromRepository() {
         UUID userId = UUID.randomUUID();
         Pageable pageable = PageRequest.of(0, 10);
-        Workspace ws1 = new Workspace("A");
-        Workspace ws2 = new Workspace("B");
-        ws1.close();
-        ws2.close();
-        Page<Workspace> repoPage = new PageImpl<>(List.of(ws1, ws2), pageable, 2);
+        WorkspaceView ws1 = workspaceView("A", WorkspaceStatus.CLOSED);
+        WorkspaceView ws2 = workspaceView("B", WorkspaceStatus.CLOSED);
+        Page<WorkspaceView> repoPage = new PageImpl<>(List.of(ws1, ws2), pageable, 2);
 
         when(currentUserProvider.getCurrentUserId()).thenReturn(userId);
 
         when(workspaceRepository.findAllByMemberAndStatus(userId, WorkspaceStatus.CLOSED, pageable))
                 .thenReturn(repoPage);
 
-        Page<Workspace> result = workspaceService.getClosedWorkspaces(pageable);
+        Page<WorkspaceView> result = workspaceService.getClosedWorkspaces(pageable);
 
         assertSame(repoPage, result);
         assertEquals(2, result.getTotalElements());
@@ -831,4 +831,9 @@ public class WorkspaceServiceTest {
         verify(workspaceMemberRepository, never()).updateRole(any(), any(), any());
         verifyNoMoreInteractions(workspaceMemberRepository, currentUserProvider);
     }
+
+    private static WorkspaceView workspaceView(String name, WorkspaceStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        return new WorkspaceView(UUID.randomUUID(), name, now, status, now);
+    }
 }